@@ -130,6 +130,27 @@ public class ClassProcessor extends AbstractProcessor {
     }
 
     public void complete() {
+        mergeExistingLocations();
+
+        if (!locations.isEmpty()) {
+            try (BufferedWriter writer = this.createWriter()) {
+                for (String location : this.locations) {
+                    writer.write(location);
+                    writer.newLine();
+                }
+            } catch (IOException ex) {
+                ex.printStackTrace();
+            }
+        } else {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Did not find any classes annotated with " + this.annotationClassName);
+        }
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Completed processing for " + this.annotationClassName);
+    }
+
+    /**
+     * Adds the classes from the list of a previous compilation that still have this annotation.
+     */
+    protected void mergeExistingLocations() {
         // Read existing annotation list and verify each class still has this annotation
         try (BufferedReader reader = this.createReader()) {
             if (reader != null) {
@@ -145,20 +166,17 @@ public class ClassProcessor extends AbstractProcessor {
         } catch (IOException e) {
             e.printStackTrace();
         }
+    }
 
-        if (!locations.isEmpty()) {
-            try (BufferedWriter writer = this.createWriter()) {
-                for (String location : this.locations) {
-                    writer.write(location);
-                    writer.newLine();
-                }
-            } catch (IOException ex) {
-                ex.printStackTrace();
-            }
-        } else {
-            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Did not find any classes annotated with " + this.annotationClassName);
-        }
-        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Completed processing for " + this.annotationClassName);
+    /**
+     * @return the fully qualified names of every class found with this annotation, including ones from previous compilations
+     */
+    protected Set<String> locations() {
+        return this.locations;
+    }
+
+    protected String annotationClassName() {
+        return this.annotationClassName;
     }
 
     private @Nullable BufferedReader createReader() throws IOException {
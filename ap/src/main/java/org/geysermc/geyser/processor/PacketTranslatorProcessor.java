@@ -25,14 +25,109 @@
 
 package org.geysermc.geyser.processor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @SupportedAnnotationTypes("*")
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
 public class PacketTranslatorProcessor extends ClassProcessor {
+    private static final String GENERATED_PACKAGE = "org.geysermc.geyser.translator.protocol";
+    private static final String GENERATED_CLASS = "GeneratedPacketTranslators";
+
     public PacketTranslatorProcessor() {
         super("org.geysermc.geyser.translator.protocol.Translator");
     }
+
+    private boolean generated;
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        boolean result = super.process(annotations, roundEnv);
+        // Source files created in the final round aren't compiled cleanly, so the table is written in the first round.
+        // Javac only starts another round if a processor generated files, and every translator is written by hand,
+        // so the first round already has all of them.
+        if (!generated && !roundEnv.processingOver() && !roundEnv.errorRaised()) {
+            generated = true;
+            generateDispatchTable();
+        }
+        return result;
+    }
+
+    private void generateDispatchTable() {
+        mergeExistingLocations();
+
+        // Translator class -> packet class, sorted so the output is stable between builds
+        Map<String, String> translators = new TreeMap<>();
+        for (String location : locations()) {
+            TypeElement element = this.processingEnv.getElementUtils().getTypeElement(location);
+            if (element == null) {
+                continue;
+            }
+
+            String packet = packetOf(element);
+            if (packet == null) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not determine packet of translator " + location, element);
+                continue;
+            }
+            translators.put(location, packet);
+        }
+
+        try {
+            writeDispatchTable(translators);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private @Nullable String packetOf(TypeElement element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().toString().equals(annotationClassName())) {
+                continue;
+            }
+
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("packet")) {
+                    // A TypeMirror, whose toString() is the canonical name of the class
+                    return entry.getValue().getValue().toString();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes a class that directly instantiates every translator, so they don't have to be looked up and created
+     * reflectively on startup.
+     */
+    private void writeDispatchTable(Map<String, String> translators) throws IOException {
+        JavaFileObject file = this.processingEnv.getFiler().createSourceFile(GENERATED_PACKAGE + "." + GENERATED_CLASS);
+        try (Writer writer = file.openWriter()) {
+            writer.write("package " + GENERATED_PACKAGE + ";\n\n");
+            writer.write("/**\n * Generated by " + PacketTranslatorProcessor.class.getSimpleName() + " - do not edit.\n */\n");
+            writer.write("public final class " + GENERATED_CLASS + " {\n");
+            writer.write("    private " + GENERATED_CLASS + "() {\n    }\n\n");
+            writer.write("    public static void forEach(java.util.function.BiConsumer<Class<?>, PacketTranslator<?>> consumer) {\n");
+            for (Map.Entry<String, String> entry : translators.entrySet()) {
+                writer.write("        consumer.accept(" + entry.getValue() + ".class, new " + entry.getKey() + "());\n");
+            }
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Generated dispatch table for " + translators.size() + " packet translators");
+    }
 }
@@ -0,0 +1,27 @@
+plugins {
+    id("geyser.base-conventions")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(projects.core)
+    // Stands in for the parts of a session that need a connection
+    jmh(libs.mockito)
+}
+
+// Run with ./gradlew :benchmark:jmh
+// Only run some benchmarks with e.g. -Pjmh.includes=ItemTranslatorBenchmark
+jmh {
+    jmhVersion = libs.versions.jmh
+    providers.gradleProperty("jmh.includes").orNull?.let { includes = listOf(it) }
+
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    // Also reports allocations per operation
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    // Mockito attaches its agent at runtime
+    jvmArgsAppend = listOf("-XX:+EnableDynamicAgentLoading")
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.geysermc.geyser.level.BedrockDimension;
+import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.registry.JavaRegistries;
+import org.geysermc.geyser.translator.level.BiomeTranslator;
+import org.geysermc.geyser.translator.protocol.java.level.JavaLevelChunkWithLightTranslator;
+import org.geysermc.mcprotocollib.protocol.codec.MinecraftTypes;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundLevelChunkWithLightPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChunkTranslatorBenchmark {
+    /**
+     * The section whose biomes are translated: one biome only, or a mix of biomes around the surface.
+     */
+    @Param({"singleton", "mixed"})
+    public String biomes;
+
+    private final JavaLevelChunkWithLightTranslator translator = new JavaLevelChunkWithLightTranslator();
+    private GeyserSession session;
+    private ClientboundLevelChunkWithLightPacket packet;
+    private DataPalette biomeData;
+    private final ByteBuf biomeBuffer = Unpooled.buffer();
+
+    @Setup
+    public void setup() {
+        session = HeadlessGeyser.session();
+        packet = Fixtures.chunkPacket(0, 0);
+
+        int sectionY = switch (biomes) {
+            case "singleton" -> 0;
+            case "mixed" -> (Fixtures.SURFACE_Y - BedrockDimension.OVERWORLD.minY()) >> 4;
+            default -> throw new IllegalArgumentException("Unknown biomes " + biomes);
+        };
+        ByteBuf in = Unpooled.wrappedBuffer(packet.getChunkData());
+        int biomeRegistrySize = session.getRegistryCache().registry(JavaRegistries.BIOME).size();
+        for (int i = 0; i <= sectionY; i++) {
+            biomeData = MinecraftTypes.readChunkSection(in, BlockRegistries.BLOCK_STATES.get().size(), biomeRegistrySize).getBiomeData();
+        }
+    }
+
+    @Benchmark
+    public void translateChunk() {
+        translator.translate(session, packet);
+    }
+
+    @Benchmark
+    public BlockStorage toNewBedrockBiome() {
+        return BiomeTranslator.toNewBedrockBiome(session, biomeData);
+    }
+
+    /**
+     * Encodes the biomes like the chunk translator does, which reuses the encoding of sections it has seen before.
+     */
+    @Benchmark
+    public ByteBuf writeBedrockBiome() {
+        biomeBuffer.clear();
+        BiomeTranslator.writeBedrockBiome(session, biomeData, biomeBuffer);
+        return biomeBuffer;
+    }
+}
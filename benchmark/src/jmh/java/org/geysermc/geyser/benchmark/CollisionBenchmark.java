@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import org.cloudburstmc.math.vector.Vector3d;
+import org.cloudburstmc.math.vector.Vector3f;
+import org.geysermc.geyser.entity.VanillaEntities;
+import org.geysermc.geyser.level.physics.CollisionManager;
+import org.geysermc.geyser.level.physics.CollisionResult;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.translator.protocol.java.level.JavaLevelChunkWithLightTranslator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A player walking back and forth over the generated terrain, as sent in every PlayerAuthInputPacket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionBenchmark {
+    private static final double START_X = 2;
+    private static final double END_X = 14;
+    private static final double STEP = 0.2;
+    private static final double Z = 4;
+
+    private GeyserSession session;
+    private CollisionManager collisionManager;
+    private float bedrockY;
+    private double x;
+
+    @Setup
+    public void setup() {
+        session = HeadlessGeyser.session();
+        JavaLevelChunkWithLightTranslator translator = new JavaLevelChunkWithLightTranslator();
+        for (int chunkX = -1; chunkX <= 1; chunkX++) {
+            for (int chunkZ = -1; chunkZ <= 1; chunkZ++) {
+                translator.translate(session, Fixtures.chunkPacket(chunkX, chunkZ));
+            }
+        }
+
+        collisionManager = session.getCollisionManager();
+        bedrockY = Fixtures.SURFACE_Y + 1 + VanillaEntities.PLAYER.offset();
+        x = START_X;
+        collisionManager.updatePlayerBoundingBox(Vector3d.from(x, Fixtures.SURFACE_Y + 1, Z));
+    }
+
+    @Benchmark
+    public CollisionResult adjustBedrockPosition() {
+        x += STEP;
+        if (x > END_X) {
+            // Teleport back, rather than having the walk back corrected
+            x = START_X;
+            collisionManager.updatePlayerBoundingBox(Vector3d.from(x, Fixtures.SURFACE_Y + 1, Z));
+        }
+        return collisionManager.adjustBedrockPosition(Vector3f.from(x, bedrockY, Z), true, false);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
+import org.cloudburstmc.protocol.bedrock.data.definitions.ItemDefinition;
+import org.geysermc.geyser.api.predicate.MinecraftPredicate;
+import org.geysermc.geyser.api.predicate.PredicateStrategy;
+import org.geysermc.geyser.api.predicate.context.item.ItemPredicateContext;
+import org.geysermc.geyser.item.GeyserCustomMappingData;
+import org.geysermc.geyser.item.Items;
+import org.geysermc.geyser.item.custom.GeyserItemPredicateContext;
+import org.geysermc.geyser.registry.type.ItemMapping;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.translator.item.CustomItemTranslator;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentTypes;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomItemTranslatorBenchmark {
+    /**
+     * Custom items are registered for damage values of 100, 200, 400, 800 and 1200, so this picks how many predicates
+     * have to be tested before one matches (or none does).
+     */
+    @Param({"50", "300", "1500"})
+    public int damage;
+
+    private GeyserSession session;
+    private DataComponents components;
+    private ItemMapping mapping;
+
+    @Setup
+    public void setup() {
+        session = HeadlessGeyser.session();
+        components = Items.DIAMOND_SWORD.gatherComponents(session.getComponentCache(), Fixtures.customModelComponents(damage));
+        mapping = session.getItemMappings().getMapping(Items.DIAMOND_SWORD);
+    }
+
+    @Benchmark
+    public ItemDefinition getCustomItem() {
+        return CustomItemTranslator.getCustomItem(session, 1, components, mapping);
+    }
+
+    /**
+     * How custom items were looked up before their predicates were compiled, to compare against.
+     */
+    @Benchmark
+    public ItemDefinition getCustomItemLinear() {
+        Collection<GeyserCustomMappingData> customItems = mapping.getCustomItemDefinitions().get(components.get(DataComponentTypes.ITEM_MODEL));
+        ItemPredicateContext context = GeyserItemPredicateContext.create(session, 1, components);
+
+        Object2BooleanMap<MinecraftPredicate<? super ItemPredicateContext>> calculatedPredicates = new Object2BooleanOpenHashMap<>();
+        for (GeyserCustomMappingData customMapping : customItems) {
+            boolean needsOnlyOneMatch = customMapping.definition().predicateStrategy() == PredicateStrategy.OR;
+            boolean allMatch = true;
+
+            for (MinecraftPredicate<? super ItemPredicateContext> predicate : customMapping.definition().predicates()) {
+                boolean value = calculatedPredicates.computeIfAbsent(predicate, x -> predicate.test(context));
+                if (value) {
+                    if (needsOnlyOneMatch) {
+                        return customMapping.itemDefinition();
+                    }
+                } else {
+                    allMatch = false;
+                    if (!needsOnlyOneMatch) {
+                        break;
+                    }
+                }
+            }
+            if (allMatch) {
+                return customMapping.itemDefinition();
+            }
+        }
+        return null;
+    }
+}
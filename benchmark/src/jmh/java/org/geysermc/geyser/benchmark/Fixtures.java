@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.geysermc.geyser.api.event.lifecycle.GeyserDefineCustomItemsEvent;
+import org.geysermc.geyser.api.item.custom.v2.CustomItemBedrockOptions;
+import org.geysermc.geyser.api.item.custom.v2.CustomItemDefinition;
+import org.geysermc.geyser.api.predicate.item.ItemRangeDispatchPredicate;
+import org.geysermc.geyser.api.util.Identifier;
+import org.geysermc.geyser.item.Items;
+import org.geysermc.geyser.level.BedrockDimension;
+import org.geysermc.geyser.level.block.Blocks;
+import org.geysermc.geyser.level.block.type.Block;
+import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.Registries;
+import org.geysermc.geyser.session.cache.registry.RegistryEntryData;
+import org.geysermc.mcprotocollib.protocol.codec.MinecraftTypes;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.ChunkSection;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.item.ItemStack;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentTypes;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+import org.geysermc.mcprotocollib.protocol.data.game.level.block.BlockEntityInfo;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundLevelChunkWithLightPacket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Inputs for the benchmarks. Everything is generated from fixed seeds, so every run translates exactly the same data
+ * without needing a server to record it from.
+ */
+final class Fixtures {
+    private static final long CHUNK_SEED = 0x6765797365724CL;
+    /**
+     * The top of the terrain in generated chunks; players stand on top of this.
+     */
+    static final int SURFACE_Y = 62;
+    private static final int WATER_LEVEL = 60;
+
+    private Fixtures() {
+    }
+
+    static Component chatComponent(String name) {
+        return switch (name) {
+            // A typical join message
+            case "plain" -> GsonComponentSerializer.gson().deserialize(
+                "{\"text\":\"\",\"extra\":[{\"text\":\"DoctorMad9952 joined the game\",\"color\":\"yellow\"}]}");
+            // A server MOTD-like message, where every letter has its own RGB color that needs to be downgraded
+            case "gradient" -> {
+                Component.Builder builder = Component.text().content("          ");
+                String text = "NEW: AMONG SLIMES";
+                for (int i = 0; i < text.length(); i++) {
+                    builder.append(Component.text(String.valueOf(text.charAt(i)))
+                        .color(TextColor.color(0xB042F5 + i * 0x0A0A00))
+                        .decoration(TextDecoration.BOLD, true));
+                }
+                yield builder.append(Component.text("\n(kinda sus)", TextColor.color(0x6D7C87))).build();
+            }
+            // Chat messages from players are translated with arguments
+            case "translatable" -> Component.translatable("chat.type.text",
+                Component.text("rtm516").clickEvent(ClickEvent.suggestCommand("/tell rtm516 ")),
+                Component.text("This is an amazing bedrock test message"));
+            // Plugin-style messages with prefixes and hover text
+            case "nested" -> Component.text()
+                .append(Component.text("[", NamedTextColor.GRAY), Component.text("H", NamedTextColor.YELLOW), Component.text("]", NamedTextColor.GRAY))
+                .append(Component.text(" GUEST ", TextColor.color(0xB7B7B7), TextDecoration.BOLD))
+                .append(Component.text("» ", NamedTextColor.BLUE))
+                .append(Component.text("Camotoy", NamedTextColor.WHITE)
+                    .hoverEvent(HoverEvent.showText(Component.translatable("block.minecraft.player_head.named", Component.text("Camotoy")))))
+                .append(Component.text(": ", NamedTextColor.GRAY), Component.text("Check out /warp spawn!", NamedTextColor.WHITE))
+                .build();
+            default -> throw new IllegalArgumentException("Unknown chat component " + name);
+        };
+    }
+
+    static ItemStack itemStack(String name) {
+        return switch (name) {
+            case "stone" -> new ItemStack(Items.STONE.javaId(), 64, new DataComponents(new HashMap<>()));
+            case "named_sword" -> {
+                DataComponents components = new DataComponents(new HashMap<>());
+                components.put(DataComponentTypes.CUSTOM_NAME, Component.text("Excalibur", NamedTextColor.GOLD, TextDecoration.BOLD));
+                components.put(DataComponentTypes.LORE, List.of(
+                    Component.text("Pulled from a stone", NamedTextColor.GRAY),
+                    Component.text("by the rightful king", NamedTextColor.GRAY)));
+                components.put(DataComponentTypes.DAMAGE, 250);
+                components.put(DataComponentTypes.ENCHANTMENT_GLINT_OVERRIDE, true);
+                yield new ItemStack(Items.DIAMOND_SWORD.javaId(), 1, components);
+            }
+            case "custom_model" -> new ItemStack(Items.DIAMOND_SWORD.javaId(), 1, customModelComponents(300));
+            default -> throw new IllegalArgumentException("Unknown item stack " + name);
+        };
+    }
+
+    /**
+     * @return the components of a diamond sword using the item model of the custom items registered by
+     * {@link #registerCustomItems(GeyserDefineCustomItemsEvent)}
+     */
+    static DataComponents customModelComponents(int damage) {
+        DataComponents components = new DataComponents(new HashMap<>());
+        components.put(DataComponentTypes.ITEM_MODEL, Key.key("benchmark", "ruby_sword"));
+        components.put(DataComponentTypes.DAMAGE, damage);
+        return components;
+    }
+
+    /**
+     * Registers a few custom items that share an item model and are told apart by their damage, the way resource packs
+     * usually do it, so that looking up the custom item has to test predicates.
+     */
+    static void registerCustomItems(GeyserDefineCustomItemsEvent event) {
+        Identifier model = Identifier.of("benchmark", "ruby_sword");
+        int[] thresholds = {100, 200, 400, 800, 1200};
+        for (int i = 0; i < thresholds.length; i++) {
+            event.register(Identifier.of("diamond_sword"), CustomItemDefinition.builder(Identifier.of("benchmark", "ruby_sword_" + i), model)
+                .bedrockOptions(CustomItemBedrockOptions.builder().icon("ruby_sword"))
+                .predicate(ItemRangeDispatchPredicate.damage(thresholds[i]))
+                .build());
+        }
+    }
+
+    /**
+     * @return a biome registry like a vanilla server sends it, with every biome Geyser knows of
+     */
+    static List<RegistryEntryData<Integer>> biomeRegistry() {
+        List<String> identifiers = new ArrayList<>(Registries.BIOME_IDENTIFIERS.get().keySet());
+        identifiers.sort(null);
+        List<RegistryEntryData<Integer>> entries = new ArrayList<>(identifiers.size());
+        for (int i = 0; i < identifiers.size(); i++) {
+            String identifier = identifiers.get(i);
+            entries.add(new RegistryEntryData<>(i, Key.key(identifier), Registries.BIOME_IDENTIFIERS.get().getInt(identifier)));
+        }
+        return entries;
+    }
+
+    /**
+     * @return a chunk of hilly terrain with ores, a lake and trees, with a few sections mixing biomes
+     */
+    static ClientboundLevelChunkWithLightPacket chunkPacket(int chunkX, int chunkZ) {
+        List<RegistryEntryData<Integer>> biomeRegistry = biomeRegistry();
+        int[] biomes = {
+            biomeId(biomeRegistry, "minecraft:plains"),
+            biomeId(biomeRegistry, "minecraft:forest"),
+            biomeId(biomeRegistry, "minecraft:river")
+        };
+
+        Random random = new Random(CHUNK_SEED ^ ((long) chunkX << 32 | chunkZ & 0xFFFFFFFFL));
+        int minY = BedrockDimension.OVERWORLD.minY();
+        int sectionCount = BedrockDimension.OVERWORLD.height() >> 4;
+        int blockStateCount = BlockRegistries.BLOCK_STATES.get().size();
+
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            for (int sectionY = 0; sectionY < sectionCount; sectionY++) {
+                DataPalette blocks = DataPalette.createForBlockState(Block.JAVA_AIR_ID, blockStateCount);
+                DataPalette biomeData = DataPalette.createForBiome(biomes[0], biomeRegistry.size());
+                int blockCount = 0;
+                for (int x = 0; x < 16; x++) {
+                    for (int z = 0; z < 16; z++) {
+                        for (int y = 0; y < 16; y++) {
+                            int state = blockAt(random, x, minY + (sectionY << 4) + y, z);
+                            if (state != Block.JAVA_AIR_ID) {
+                                blocks.set(x, y, z, state);
+                                blockCount++;
+                            }
+                        }
+                    }
+                }
+
+                // Around the surface, biomes are mixed
+                if (minY + (sectionY << 4) >= 32 && minY + (sectionY << 4) < 96) {
+                    for (int x = 0; x < 4; x++) {
+                        for (int z = 0; z < 4; z++) {
+                            for (int y = 0; y < 4; y++) {
+                                biomeData.set(x, y, z, biomes[random.nextInt(biomes.length)]);
+                            }
+                        }
+                    }
+                }
+
+                MinecraftTypes.writeChunkSection(buf, new ChunkSection(blockCount, blocks, biomeData));
+            }
+
+            byte[] chunkData = ByteBufUtil.getBytes(buf);
+            // The translator only needs these; heightmaps and light are ignored
+            ClientboundLevelChunkWithLightPacket packet = mock(ClientboundLevelChunkWithLightPacket.class);
+            when(packet.getX()).thenReturn(chunkX);
+            when(packet.getZ()).thenReturn(chunkZ);
+            when(packet.getChunkData()).thenReturn(chunkData);
+            when(packet.getBlockEntities()).thenReturn(new BlockEntityInfo[0]);
+            return packet;
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static int blockAt(Random random, int x, int y, int z) {
+        if (y == BedrockDimension.OVERWORLD.minY()) {
+            return state(Blocks.BEDROCK);
+        }
+        // A lake in one corner of the chunk
+        boolean lake = x >= 10 && z >= 10;
+        if (lake && y > WATER_LEVEL - 4) {
+            return y <= WATER_LEVEL ? state(Blocks.WATER) : Block.JAVA_AIR_ID;
+        }
+        if (y < SURFACE_Y - 4) {
+            int roll = random.nextInt(100);
+            if (roll < 2) {
+                return state(Blocks.COAL_ORE);
+            } else if (roll == 2) {
+                return state(Blocks.IRON_ORE);
+            } else if (roll == 3) {
+                // Caves
+                return Block.JAVA_AIR_ID;
+            }
+            return state(Blocks.STONE);
+        }
+        if (y < SURFACE_Y) {
+            return state(Blocks.DIRT);
+        }
+        if (y == SURFACE_Y) {
+            return state(Blocks.GRASS_BLOCK);
+        }
+        // A tree; players walk along the other side of the chunk
+        if (x == 4 && z == 12 && y <= SURFACE_Y + 5) {
+            return state(Blocks.OAK_LOG);
+        }
+        if (Math.abs(x - 4) <= 2 && Math.abs(z - 12) <= 2 && y >= SURFACE_Y + 4 && y <= SURFACE_Y + 7) {
+            return state(Blocks.OAK_LEAVES);
+        }
+        if (y == SURFACE_Y + 1 && z < 8 && random.nextInt(10) == 0) {
+            return state(Blocks.SHORT_GRASS);
+        }
+        return Block.JAVA_AIR_ID;
+    }
+
+    private static int state(Block block) {
+        return block.defaultBlockState().javaId();
+    }
+
+    private static int biomeId(List<RegistryEntryData<Integer>> registry, String identifier) {
+        for (RegistryEntryData<Integer> entry : registry) {
+            if (entry.key().asString().equals(identifier)) {
+                return entry.id();
+            }
+        }
+        throw new IllegalStateException("Unknown biome " + identifier);
+    }
+}
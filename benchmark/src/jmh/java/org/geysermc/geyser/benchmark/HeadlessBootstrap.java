@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import org.geysermc.geyser.GeyserBootstrap;
+import org.geysermc.geyser.GeyserLogger;
+import org.geysermc.geyser.api.util.PlatformType;
+import org.geysermc.geyser.command.CommandRegistry;
+import org.geysermc.geyser.configuration.GeyserConfig;
+import org.geysermc.geyser.configuration.GeyserRemoteConfig;
+import org.geysermc.geyser.dump.BootstrapDumpInfo;
+import org.geysermc.geyser.ping.IGeyserPingPassthrough;
+
+import java.nio.file.Path;
+
+/**
+ * A bootstrap without a server or network listener. Geyser is only loaded far enough to populate its registries.
+ */
+final class HeadlessBootstrap implements GeyserBootstrap {
+    private final Path configFolder;
+    private final GeyserLogger logger = new BenchmarkLogger();
+    private final GeyserConfig config;
+
+    HeadlessBootstrap(Path configFolder) {
+        this.configFolder = configFolder;
+        // Writes and loads the default config
+        this.config = loadConfig(GeyserRemoteConfig.class);
+        if (this.config == null) {
+            throw new IllegalStateException("Unable to load the default config into " + configFolder);
+        }
+    }
+
+    @Override
+    public void onGeyserInitialize() {
+    }
+
+    @Override
+    public void onGeyserEnable() {
+    }
+
+    @Override
+    public void onGeyserDisable() {
+    }
+
+    @Override
+    public void onGeyserShutdown() {
+    }
+
+    @Override
+    public PlatformType platformType() {
+        return PlatformType.STANDALONE;
+    }
+
+    @Override
+    public GeyserConfig config() {
+        return config;
+    }
+
+    @Override
+    public GeyserLogger getGeyserLogger() {
+        return logger;
+    }
+
+    @Override
+    public CommandRegistry getCommandRegistry() {
+        return null;
+    }
+
+    @Override
+    public IGeyserPingPassthrough getGeyserPingPassthrough() {
+        return null;
+    }
+
+    @Override
+    public Path getConfigFolder() {
+        return configFolder;
+    }
+
+    @Override
+    public BootstrapDumpInfo getDumpInfo() {
+        return null;
+    }
+
+    @Override
+    public String getServerPlatform() {
+        return "Benchmark";
+    }
+
+    @Override
+    public String getServerBindAddress() {
+        return "127.0.0.1";
+    }
+
+    @Override
+    public int getServerPort() {
+        return 25565;
+    }
+
+    @Override
+    public boolean testFloodgatePluginPresent() {
+        return false;
+    }
+
+    @Override
+    public Path getFloodgateKeyPath() {
+        return configFolder.resolve("key.pem");
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import org.cloudburstmc.protocol.bedrock.packet.LevelChunkPacket;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.api.event.lifecycle.GeyserDefineCustomItemsEvent;
+import org.geysermc.geyser.entity.VanillaEntities;
+import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
+import org.geysermc.geyser.erosion.AbstractGeyserboundPacketHandler;
+import org.geysermc.geyser.level.BedrockDimension;
+import org.geysermc.geyser.level.BlockPositionIndex;
+import org.geysermc.geyser.level.physics.CollisionManager;
+import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.Registries;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ChunkCache;
+import org.geysermc.geyser.session.cache.ComponentCache;
+import org.geysermc.geyser.session.cache.PistonCache;
+import org.geysermc.geyser.session.cache.PreferencesCache;
+import org.geysermc.geyser.session.cache.RegistryCache;
+import org.geysermc.geyser.session.cache.TagCache;
+import org.geysermc.geyser.session.cache.registry.JavaRegistries;
+import org.geysermc.geyser.session.cache.registry.SimpleJavaRegistry;
+import org.geysermc.geyser.text.GeyserLocale;
+import org.geysermc.geyser.translator.text.MessageTranslator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Loads Geyser and its registries without a network listener, and creates sessions that aren't connected to anything.
+ * <p>
+ * Sessions are Mockito mocks with the caches the benchmarked translators use. These are the real caches, so they
+ * behave (and allocate) as they would for a connected player; everything else a session has is left unstubbed.
+ */
+final class HeadlessGeyser {
+    private static GeyserImpl geyser;
+
+    private HeadlessGeyser() {
+    }
+
+    /**
+     * Loads Geyser once per benchmark JVM. Subsequent calls do nothing.
+     */
+    static synchronized GeyserImpl load() {
+        if (geyser != null) {
+            return geyser;
+        }
+
+        HeadlessBootstrap bootstrap;
+        try {
+            bootstrap = new HeadlessBootstrap(Files.createTempDirectory("geyser-benchmark"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        GeyserLocale.init(bootstrap);
+        geyser = GeyserImpl.load(bootstrap);
+        geyser.eventBus().subscribe(geyser, GeyserDefineCustomItemsEvent.class, Fixtures::registerCustomItems);
+
+        // The same order as GeyserImpl#initialize
+        Registries.load();
+        BlockRegistries.populate();
+        Registries.populate();
+        RegistryCache.init();
+        VanillaEntities.init();
+        MessageTranslator.init();
+        return geyser;
+    }
+
+    /**
+     * @return a session on the latest Bedrock version, in the overworld
+     */
+    static GeyserSession session() {
+        GeyserImpl geyser = load();
+        GeyserSession session = mock(GeyserSession.class);
+
+        when(session.getGeyser()).thenReturn(geyser);
+        when(session.locale()).thenReturn("en_us");
+        when(session.getBlockMappings()).thenReturn(BlockRegistries.BLOCKS.forVersion(GameProtocol.DEFAULT_BEDROCK_PROTOCOL));
+        when(session.getItemMappings()).thenReturn(Registries.ITEMS.forVersion(GameProtocol.DEFAULT_BEDROCK_PROTOCOL));
+        when(session.getBedrockDimension()).thenReturn(BedrockDimension.OVERWORLD);
+
+        RegistryCache registryCache = new RegistryCache(session);
+        @SuppressWarnings("unchecked")
+        SimpleJavaRegistry<Integer> biomes = (SimpleJavaRegistry<Integer>) registryCache.registry(JavaRegistries.BIOME);
+        biomes.reset(Fixtures.biomeRegistry());
+        when(session.getRegistryCache()).thenReturn(registryCache);
+
+        ChunkCache chunkCache = new ChunkCache(session);
+        chunkCache.setMinY(BedrockDimension.OVERWORLD.minY());
+        chunkCache.setHeightY(BedrockDimension.OVERWORLD.height());
+        when(session.getChunkCache()).thenReturn(chunkCache);
+
+        when(session.getComponentCache()).thenReturn(new ComponentCache(session));
+        when(session.getTagCache()).thenReturn(new TagCache(session));
+        when(session.getPistonCache()).thenReturn(new PistonCache(session));
+        when(session.getItemFrameCache()).thenReturn(new BlockPositionIndex<>());
+        when(session.getPreferencesCache()).thenReturn(mock(PreferencesCache.class));
+        when(session.getErosionHandler()).thenReturn(mock(AbstractGeyserboundPacketHandler.class));
+
+        SessionPlayerEntity playerEntity = mock(SessionPlayerEntity.class);
+        when(playerEntity.getBoundingBoxHeight()).thenReturn(1.8f);
+        when(playerEntity.getBoundingBoxWidth()).thenReturn(0.6f);
+        when(session.getPlayerEntity()).thenReturn(playerEntity);
+        CollisionManager collisionManager = new CollisionManager(session);
+        when(session.getCollisionManager()).thenReturn(collisionManager);
+
+        // Nothing reads the chunk data we'd send, so release it straight away
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) instanceof LevelChunkPacket packet) {
+                packet.getData().release();
+            }
+            return null;
+        }).when(session).sendUpstreamPacket(any());
+        return session;
+    }
+}
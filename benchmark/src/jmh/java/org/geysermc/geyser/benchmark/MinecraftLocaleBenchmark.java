@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.benchmark;
+
+import com.google.gson.JsonObject;
+import org.geysermc.geyser.text.MinecraftLocale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MinecraftLocaleBenchmark {
+    /**
+     * About as many keys as the real locale files have.
+     */
+    private static final int KEYS = 8192;
+
+    /**
+     * de_DE is spelled like Bedrock clients send it; a third of its translations differ from en_us.
+     */
+    @Param({"en_us", "de_DE"})
+    public String locale;
+
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        Path folder = HeadlessGeyser.load().getBootstrap().getConfigFolder().resolve("locales");
+        Files.createDirectories(folder);
+
+        JsonObject english = new JsonObject();
+        JsonObject german = new JsonObject();
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "item.minecraft.benchmark_" + i;
+            english.addProperty(keys[i], "Benchmark item " + i);
+            german.addProperty(keys[i], i % 3 == 0 ? "Benchmark-Gegenstand " + i : "Benchmark item " + i);
+        }
+        Files.writeString(folder.resolve("en_us.json"), english.toString(), StandardCharsets.UTF_8);
+        Files.writeString(folder.resolve("de_de.json"), german.toString(), StandardCharsets.UTF_8);
+
+        MinecraftLocale.downloadAndLoadLocale("en_us");
+        MinecraftLocale.downloadAndLoadLocale("de_de");
+    }
+
+    @Benchmark
+    public String getLocaleString() {
+        next = (next + 1) & (KEYS - 1);
+        return MinecraftLocale.getLocaleString(keys[next], locale);
+    }
+}
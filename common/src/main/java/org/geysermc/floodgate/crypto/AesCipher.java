@@ -32,8 +32,11 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.SecureRandom;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @RequiredArgsConstructor
 public final class AesCipher implements FloodgateCipher {
@@ -42,6 +45,11 @@ public final class AesCipher implements FloodgateCipher {
     private static final String CIPHER_NAME = "AES/GCM/NoPadding";
 
     private final SecureRandom secureRandom = new SecureRandom();
+    /**
+     * Ciphers that aren't in use. Getting a new instance is relatively expensive, and as a cipher is initialized with a
+     * new IV before every use anyway, they can be reused. A cipher can only be used by one thread at a time.
+     */
+    private final Queue<Cipher> ciphers = new ConcurrentLinkedQueue<>();
     private final Topping topping;
     private SecretKey secretKey;
 
@@ -52,17 +60,24 @@ public final class AesCipher implements FloodgateCipher {
             );
         }
         secretKey = (SecretKey) key;
+        ciphers.clear();
     }
 
-    public byte[] encrypt(byte[] data) throws Exception {
-        Cipher cipher = Cipher.getInstance(CIPHER_NAME);
+    private Cipher acquireCipher() throws GeneralSecurityException {
+        Cipher cipher = ciphers.poll();
+        return cipher != null ? cipher : Cipher.getInstance(CIPHER_NAME);
+    }
 
+    public byte[] encrypt(byte[] data) throws Exception {
         byte[] iv = new byte[IV_LENGTH];
         secureRandom.nextBytes(iv);
 
         GCMParameterSpec spec = new GCMParameterSpec(TAG_BIT_LENGTH, iv);
+        Cipher cipher = acquireCipher();
+        // Every encryption gets a new random IV, as GCM must never reuse one with the same key
         cipher.init(Cipher.ENCRYPT_MODE, secretKey, spec);
         byte[] cipherText = cipher.doFinal(data);
+        ciphers.offer(cipher);
 
         if (topping != null) {
             iv = topping.encode(iv);
@@ -80,8 +95,6 @@ public final class AesCipher implements FloodgateCipher {
     public byte[] decrypt(byte[] cipherTextWithIv) throws Exception {
         checkHeader(cipherTextWithIv);
 
-        Cipher cipher = Cipher.getInstance(CIPHER_NAME);
-
         int bufferLength = cipherTextWithIv.length - HEADER.length;
         ByteBuffer buffer = ByteBuffer.wrap(cipherTextWithIv, HEADER.length, bufferLength);
 
@@ -118,7 +131,10 @@ public final class AesCipher implements FloodgateCipher {
         }
 
         GCMParameterSpec spec = new GCMParameterSpec(TAG_BIT_LENGTH, iv);
+        Cipher cipher = acquireCipher();
         cipher.init(Cipher.DECRYPT_MODE, secretKey, spec);
-        return cipher.doFinal(cipherText);
+        byte[] data = cipher.doFinal(cipherText);
+        ciphers.offer(cipher);
+        return data;
     }
 }
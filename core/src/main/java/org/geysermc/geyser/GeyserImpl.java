@@ -84,6 +84,7 @@ import org.geysermc.geyser.impl.MinecraftVersionImpl;
 import org.geysermc.geyser.level.BedrockDimension;
 import org.geysermc.geyser.level.WorldManager;
 import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.network.LoginEncryptionExecutor;
 import org.geysermc.geyser.network.netty.GeyserServer;
 import org.geysermc.geyser.ping.GeyserLegacyPingPassthrough;
 import org.geysermc.geyser.registry.BlockRegistries;
@@ -174,6 +175,8 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
 
     private ScoreboardUpdater scoreboardUpdater;
 
+    private LoginEncryptionExecutor loginEncryptionExecutor;
+
     private GeyserServer geyserServer;
     private final GeyserBootstrap bootstrap;
 
@@ -256,6 +259,15 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         Both the block registries and the common registries depend on each other,
         so maintaining this order is crucial for Geyser to load.
          */
+        List<String> bedrockVersions = config().advanced().bedrockVersions();
+        List<String> unknownBedrockVersions = GameProtocol.retainBedrockVersions(bedrockVersions);
+        if (!unknownBedrockVersions.isEmpty()) {
+            logger.warning("Ignoring unsupported Bedrock versions in the config: " + String.join(", ", unknownBedrockVersions)
+                + ". Supported versions are: " + GameProtocol.getAllSupportedBedrockVersions());
+            if (unknownBedrockVersions.size() == bedrockVersions.size()) {
+                logger.warning("None of the configured Bedrock versions are supported, so every version will be loaded.");
+            }
+        }
         Registries.load();
         BlockRegistries.populate();
         Registries.populate();
@@ -320,6 +332,7 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         GeyserConfig config = bootstrap.config();
 
         this.scoreboardUpdater = ScoreboardUpdater.init();
+        this.loginEncryptionExecutor = new LoginEncryptionExecutor();
 
         SkinProvider.registerCacheImageTask(this);
 
@@ -603,6 +616,7 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         runIfNonNull(metrics, MetricsBase::shutdown);
         runIfNonNull(scheduledThread, ScheduledExecutorService::shutdown);
         runIfNonNull(scoreboardUpdater, ScoreboardUpdater::shutdown);
+        runIfNonNull(loginEncryptionExecutor, LoginEncryptionExecutor::shutdown);
         runIfNonNull(geyserServer, GeyserServer::shutdown);
         runIfNonNull(skinUploader, FloodgateSkinUploader::close);
         runIfNonNull(newsHandler, NewsHandler::shutdown);
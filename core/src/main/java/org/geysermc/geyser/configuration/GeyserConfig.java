@@ -373,6 +373,14 @@ public interface GeyserConfig {
         @NumericRange(from = -1, to = 9)
         int compressionLevel();
 
+        @Comment("""
+                Whether to choose the compression of each Bedrock client by where it connects from. Clients on the local network
+                use faster compression, and the compression level above is lowered while compressing uses a lot of CPU time.
+                If "use-proxy-protocol" is enabled, clients on the same machine (such as a Bedrock proxy) are sent uncompressed packets.
+                Don't enable this if a UDP proxy on your local network forwards players without the proxy protocol.""")
+        @DefaultBoolean
+        boolean adaptiveCompression();
+
         @Comment("""
                 Whether to expect HAPROXY protocol for connecting Bedrock clients.
                 This is useful only when you are running a UDP reverse proxy in front of your Geyser instance.
@@ -456,9 +464,16 @@ public interface GeyserConfig {
     interface AdvancedConfig {
         @Comment("""
             Specify how many days player skin images will be cached to disk to save downloading them from the internet.
+            Player profile lookups are cached as well. Images that haven't been used for this many days are removed.
             A value of 0 is disabled. (Default: 0)""")
         int cacheImages();
 
+        @Comment("""
+            The maximum size of the skin cache on disk, in megabytes. When full, the least recently used images are removed.
+            Only used if cache-images is enabled.""")
+        @DefaultNumeric(256)
+        int cacheImagesMaxSize();
+
         @Comment("""
             Geyser updates the Scoreboard after every Scoreboard packet, but when Geyser tries to handle
             a lot of scoreboard packets per second, this can cause serious lag.
@@ -467,6 +482,37 @@ public interface GeyserConfig {
         @DefaultNumeric(20)
         int scoreboardPacketThreshold();
 
+        @Comment("""
+            The maximum amount of particles that will be sent to each Bedrock player per tick. Bedrock needs a separate packet
+            for every particle, so plugins spawning many particles can overwhelm mobile devices.
+            Particles further away than Java Edition would render them are also skipped, and distant particles are thinned out.
+            Set to -1 to disable all particle limiting.""")
+        @DefaultNumeric(200)
+        int maxParticlesPerTick();
+
+        @Comment("""
+            When set above 0, player list entries are sent with a default skin, and the real skin of a player is only sent
+            once they come into view. At most this many bytes of skin data are sent to each Bedrock player per tick.
+            This greatly reduces the data sent when joining servers with many players online.
+            Set to -1 to always send every skin right away.""")
+        @DefaultNumeric(-1)
+        int maxSkinBytesPerTick();
+
+        @Comment("""
+            The Bedrock versions Geyser loads mappings for, for example "26.30". Players on other versions can't join.
+            Loading fewer versions makes startup faster and uses less memory. The latest supported version is always loaded.
+            Leave empty, or list only unknown versions, to support every version.""")
+        default List<String> bedrockVersions() {
+            return List.of();
+        }
+
+        @Comment("""
+            Whether Geyser should save how Java block states map to each Bedrock version's block palette in the cache folder,
+            so the next startup can skip working it out again. The saved mappings are ignored as soon as Geyser, its mappings
+            or the custom blocks change.""")
+        @DefaultBoolean(false)
+        boolean cacheMappings();
+
         @Comment("""
             Whether Geyser should send team names in command suggestions.
             Disable this if you have a lot of teams used that you don't need as suggestions.""")
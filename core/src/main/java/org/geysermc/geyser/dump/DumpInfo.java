@@ -25,6 +25,7 @@
 
 package org.geysermc.geyser.dump;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 import com.google.common.io.Files;
@@ -39,6 +40,7 @@ import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import lombok.Getter;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.protocol.bedrock.data.PacketCompressionAlgorithm;
 import org.geysermc.floodgate.util.DeviceOs;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.GeyserApi;
@@ -46,11 +48,15 @@ import org.geysermc.geyser.api.entity.custom.CustomEntityDefinition;
 import org.geysermc.geyser.api.extension.Extension;
 import org.geysermc.geyser.api.util.MinecraftVersion;
 import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.network.LoginEncryptionExecutor;
+import org.geysermc.geyser.network.compression.SessionCompressionStrategy;
 import org.geysermc.geyser.pack.ResourcePackHolder;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.SessionTickScheduler;
 import org.geysermc.geyser.text.AsteriskSerializer;
+import org.geysermc.geyser.translator.level.BiomeTranslator;
 import org.geysermc.geyser.util.CpuUtils;
 import org.geysermc.geyser.util.FileUtils;
 import org.geysermc.geyser.util.WebUtils;
@@ -70,10 +76,12 @@ import java.net.UnknownHostException;
 import java.nio.charset.Charset;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Getter
@@ -97,6 +105,10 @@ public class DumpInfo {
     private final List<ExtensionInfo> extensionInfo;
     private final List<PackInfo> packInfo;
     private final MappingInfo mappingInfo;
+    private final LoginInfo loginInfo;
+    private final CacheInfo biomeCacheInfo;
+    private final CompressionInfo compressionInfo;
+    private final List<SessionTickScheduler.Stats> tickSchedulerInfo;
 
     public DumpInfo(GeyserImpl geyser, boolean addLog) {
         this.versionInfo = new VersionInfo();
@@ -173,6 +185,19 @@ public class DumpInfo {
             Registries.ITEMS.forVersion(GameProtocol.DEFAULT_BEDROCK_PROTOCOL).getCustomIdMappings().size(),
             Registries.BEDROCK_ENTITY_DEFINITIONS.get().values().stream().filter(def -> def instanceof CustomEntityDefinition).toArray().length
         );
+
+        LoginEncryptionExecutor loginExecutor = geyser.getLoginEncryptionExecutor();
+        if (loginExecutor != null) {
+            this.loginInfo = new LoginInfo(loginExecutor.handshakeCount(), loginExecutor.averageHandshakeMillis(),
+                loginExecutor.maxHandshakeMillis(), loginExecutor.keyPairPoolMisses(), loginExecutor.rejectedLogins(),
+                loginExecutor.pendingLogins());
+        } else {
+            this.loginInfo = null;
+        }
+
+        this.biomeCacheInfo = new CacheInfo(BiomeTranslator.biomeCacheStats());
+        this.compressionInfo = CompressionInfo.of(geyser.getSessionManager().getAllSessions());
+        this.tickSchedulerInfo = SessionTickScheduler.allStats();
     }
 
     private JsonElement toGson(ConfigurationNode node) {
@@ -342,6 +367,37 @@ public class DumpInfo {
         }
     }
 
+    public record LoginInfo(long handshakes, double averageHandshakeMillis, double maxHandshakeMillis, long keyPairPoolMisses,
+                            long rejectedLogins, int pendingLogins) {
+    }
+
+    public record CacheInfo(long hits, long misses, double hitRate, long evictions) {
+
+        public CacheInfo(CacheStats stats) {
+            this(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+        }
+    }
+
+    public record CompressionInfo(Map<PacketCompressionAlgorithm, Integer> sessions, double compressionRatio, long compressionMillis) {
+
+        public static CompressionInfo of(Collection<GeyserSession> sessions) {
+            Map<PacketCompressionAlgorithm, Integer> algorithms = new HashMap<>();
+            long uncompressed = 0;
+            long compressed = 0;
+            long nanos = 0;
+            for (GeyserSession session : sessions) {
+                SessionCompressionStrategy strategy = session.getCompressionStrategy();
+                if (strategy != null) {
+                    algorithms.merge(strategy.getSettings().algorithm(), 1, Integer::sum);
+                    uncompressed += strategy.getUncompressedBytes();
+                    compressed += strategy.getCompressedBytes();
+                    nanos += strategy.getCompressionNanos();
+                }
+            }
+            return new CompressionInfo(algorithms, uncompressed == 0 ? 1 : (double) compressed / uncompressed, TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+    }
+
     public record MappingInfo(int customBlocks, int customSkulls, int customItems, int customEntities) {
     }
 }
@@ -25,29 +25,43 @@
 
 package org.geysermc.geyser.extension;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.extension.Extension;
-import org.geysermc.geyser.api.extension.ExtensionDescription;
 import org.geysermc.geyser.api.extension.exception.InvalidExtensionException;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
 public class GeyserExtensionClassLoader extends URLClassLoader {
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
     private final GeyserExtensionLoader loader;
     private final GeyserExtensionDescription description;
-    private final Object2ObjectMap<String, Class<?>> classes = new Object2ObjectOpenHashMap<>();
-    private boolean warnedForExternalClassAccess;
+    private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+    /**
+     * The packages that contain classes in this extension's jar
+     */
+    private final Set<String> packages;
+    private volatile boolean warnedForExternalClassAccess;
 
-    public GeyserExtensionClassLoader(GeyserExtensionLoader loader, ClassLoader parent, Path path, GeyserExtensionDescription description) throws MalformedURLException {
+    public GeyserExtensionClassLoader(GeyserExtensionLoader loader, ClassLoader parent, Path path, GeyserExtensionDescription description) throws IOException {
         super(new URL[] { path.toUri().toURL() }, parent);
         this.loader = loader;
         this.description = description;
+        this.packages = Set.copyOf(indexPackages(path));
     }
 
     public Extension load() throws InvalidExtensionException {
@@ -74,39 +88,78 @@ public class GeyserExtensionClassLoader extends URLClassLoader {
         }
     }
 
-    @Override
-    protected Class<?> findClass(String name) throws ClassNotFoundException {
-        return this.findClass(name, true);
+    public Set<String> packages() {
+        return this.packages;
     }
 
-    protected Class<?> findClass(String name, boolean checkGlobal) throws ClassNotFoundException {
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
         Class<?> result = this.classes.get(name);
+        if (result != null) {
+            return result;
+        }
+
+        // Try to find class in current extension
+        result = this.findLocalClass(name);
         if (result == null) {
-            // Try to find class in current extension
+            // If class is not found in current extension, check in the other extensions
+            if (!warnedForExternalClassAccess && this.description.dependencies().isEmpty()) { // Don't warn when the extension has dependencies, it is probably using it's dependencies!
+                GeyserImpl.getInstance().getLogger().warning("Extension " + this.description.name() + " loads class " + name + " from an external source. " +
+                        "This can change at any time and break the extension, additionally to potentially causing unexpected behaviour!");
+                warnedForExternalClassAccess = true;
+            }
+            result = this.loader.classByName(name);
+        }
+
+        if (result == null) {
+            throw new ClassNotFoundException(name);
+        }
+        this.classes.putIfAbsent(name, result);
+        return result;
+    }
+
+    /**
+     * Finds a class in this extension's jar only. Safe to call from other extensions' class loaders.
+     *
+     * @return the class, or null if this extension doesn't have it
+     */
+    @Nullable Class<?> findLocalClass(String name) {
+        if (!this.packages.contains(packageName(name))) {
+            // Skips a jar lookup (and the exception that comes with a miss)
+            return null;
+        }
+
+        synchronized (this.getClassLoadingLock(name)) {
+            Class<?> result = this.findLoadedClass(name);
+            if (result != null) {
+                return result;
+            }
             try {
                 result = super.findClass(name);
-            } catch (ClassNotFoundException ignored) {
-                // If class is not found in current extension, check in the global class loader
-                // This is used for classes that are not in the extension, but are in other extensions
-                if (checkGlobal) {
-                    if (!warnedForExternalClassAccess && this.description.dependencies().isEmpty()) { // Don't warn when the extension has dependencies, it is probably using it's dependencies!
-                        GeyserImpl.getInstance().getLogger().warning("Extension " + this.description.name() + " loads class " + name + " from an external source. " +
-                                "This can change at any time and break the extension, additionally to potentially causing unexpected behaviour!");
-                        warnedForExternalClassAccess = true;
-                    }
-                    result = this.loader.classByName(name);
-                }
+            } catch (ClassNotFoundException e) {
+                return null;
             }
+            this.loader.setClass(name, result);
+            return result;
+        }
+    }
 
-            if (result != null) {
-                // If class is found, cache it
-                this.loader.setClass(name, result);
-                this.classes.put(name, result);
-            } else {
-                // If class is not found, throw exception
-                throw new ClassNotFoundException(name);
+    static String packageName(String className) {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot == -1 ? "" : className.substring(0, lastDot);
+    }
+
+    private static Set<String> indexPackages(Path path) throws IOException {
+        Set<String> packages = new HashSet<>();
+        try (JarFile jar = new JarFile(path.toFile())) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (entryName.endsWith(".class") && !entryName.startsWith("META-INF/")) {
+                    packages.add(packageName(entryName.substring(0, entryName.length() - ".class".length()).replace('/', '.')));
+                }
             }
         }
-        return result;
+        return packages;
     }
 }
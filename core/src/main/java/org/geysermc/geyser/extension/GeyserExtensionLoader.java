@@ -25,10 +25,9 @@
 
 package org.geysermc.geyser.extension;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import lombok.RequiredArgsConstructor;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.geysermc.api.util.ApiVersion;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.GeyserLogger;
@@ -61,6 +60,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -70,8 +71,16 @@ import java.util.regex.Pattern;
 public class GeyserExtensionLoader extends ExtensionLoader {
     private static final Pattern EXTENSION_FILTER = Pattern.compile("^.+\\.jar$");
 
-    private final Object2ObjectMap<String, Class<?>> classes = new Object2ObjectOpenHashMap<>();
-    private final Map<String, GeyserExtensionClassLoader> classLoaders = new HashMap<>();
+    private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+    /**
+     * Class names that no extension has, so repeated lookups don't search the jars again
+     */
+    private final Set<String> missingClasses = ConcurrentHashMap.newKeySet();
+    private final Map<String, GeyserExtensionClassLoader> classLoaders = new ConcurrentHashMap<>();
+    /**
+     * Maps package names to the class loaders of the extensions that have classes in them
+     */
+    private final Map<String, List<GeyserExtensionClassLoader>> packageIndex = new ConcurrentHashMap<>();
     private final Map<Extension, GeyserExtensionContainer> extensionContainers = new HashMap<>();
     private final Path extensionsDirectory = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("extensions");
 
@@ -109,18 +118,39 @@ public class GeyserExtensionLoader extends ExtensionLoader {
             throw new InvalidExtensionException(e);
         }
 
-        this.classLoaders.put(description.id(), loader);
+        this.addClassLoader(description.id(), loader);
 
         try {
             final Extension extension = loader.load();
             return this.setup(extension, description, dataFolder, new GeyserExtensionEventBus(GeyserImpl.getInstance().eventBus(), extension));
         } catch (Throwable e) {
             // if the extension failed to load, remove its classloader and close it.
-            this.classLoaders.remove(description.id()).close();
+            this.removeClassLoader(description.id()).close();
             throw e;
         }
     }
 
+    private void addClassLoader(String id, GeyserExtensionClassLoader loader) {
+        this.classLoaders.put(id, loader);
+        for (String packageName : loader.packages()) {
+            this.packageIndex.computeIfAbsent(packageName, k -> new CopyOnWriteArrayList<>()).add(loader);
+        }
+        // The new extension may have classes that were missing before
+        this.missingClasses.clear();
+    }
+
+    private GeyserExtensionClassLoader removeClassLoader(String id) {
+        GeyserExtensionClassLoader loader = this.classLoaders.remove(id);
+        for (String packageName : loader.packages()) {
+            this.packageIndex.computeIfPresent(packageName, (k, loaders) -> {
+                loaders.remove(loader);
+                return loaders.isEmpty() ? null : loaders;
+            });
+        }
+        this.classes.values().removeIf(clazz -> clazz.getClassLoader() == loader);
+        return loader;
+    }
+
     private GeyserExtensionContainer setup(Extension extension, GeyserExtensionDescription description, Path dataFolder, ExtensionEventBus eventBus) {
         GeyserExtensionLogger logger = new GeyserExtensionLogger(GeyserImpl.getInstance().getLogger(), description.id());
         return new GeyserExtensionContainer(extension, dataFolder, description, this, logger, eventBus);
@@ -142,20 +172,29 @@ public class GeyserExtensionLoader extends ExtensionLoader {
         return EXTENSION_FILTER;
     }
 
-    public Class<?> classByName(final String name) throws ClassNotFoundException{
+    /**
+     * Finds a class in any of the loaded extensions.
+     *
+     * @return the class, or null if no extension has it
+     */
+    public @Nullable Class<?> classByName(final String name) {
         Class<?> clazz = this.classes.get(name);
-        if (clazz != null) {
+        if (clazz != null || this.missingClasses.contains(name)) {
             return clazz;
         }
 
-        for (GeyserExtensionClassLoader loader : this.classLoaders.values()) {
-            clazz = loader.findClass(name, false);
-            if (clazz != null) {
-                break;
+        List<GeyserExtensionClassLoader> loaders = this.packageIndex.get(GeyserExtensionClassLoader.packageName(name));
+        if (loaders != null) {
+            for (GeyserExtensionClassLoader loader : loaders) {
+                clazz = loader.findLocalClass(name);
+                if (clazz != null) {
+                    return clazz;
+                }
             }
         }
 
-        return clazz;
+        this.missingClasses.add(name);
+        return null;
     }
 
     void setClass(String name, final Class<?> clazz) {
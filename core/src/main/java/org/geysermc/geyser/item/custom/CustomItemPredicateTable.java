@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.item.custom;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.SortedSetMultimap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.kyori.adventure.key.Key;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.protocol.bedrock.data.definitions.ItemDefinition;
+import org.geysermc.geyser.api.item.custom.v2.CustomItemDefinition;
+import org.geysermc.geyser.api.predicate.MinecraftPredicate;
+import org.geysermc.geyser.api.predicate.PredicateStrategy;
+import org.geysermc.geyser.api.predicate.context.item.ChargedProjectile;
+import org.geysermc.geyser.api.predicate.context.item.ItemPredicateContext;
+import org.geysermc.geyser.api.predicate.item.ItemConditionPredicate;
+import org.geysermc.geyser.item.GeyserCustomMappingData;
+import org.geysermc.geyser.item.Items;
+import org.geysermc.geyser.item.custom.impl.predicates.GeyserChargeTypePredicate;
+import org.geysermc.geyser.item.custom.impl.predicates.GeyserCustomModelDataPredicate;
+import org.geysermc.geyser.item.custom.impl.predicates.GeyserRangeDispatchPredicate;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.mcprotocollib.protocol.data.game.item.ItemStack;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.CustomModelData;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentTypes;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The custom items of one item model, with their predicates compiled when the item mappings are populated.
+ * <p>
+ * The common predicates (backed by the record classes in the API module, which is all JSON mappings use) are tested
+ * against only the component values they read, instead of a full {@link ItemPredicateContext}. If every predicate of
+ * a model is a common one, the custom item that matches only depends on those values, so it is remembered for them.
+ * Other predicates are tested as usual, with a context that is only created once such a predicate is reached.
+ */
+public final class CustomItemPredicateTable {
+    private static final int MEMO_SIZE = 512;
+
+    private static final int COUNT = 1;
+    private static final int MAX_STACK_SIZE = 1 << 1;
+    private static final int DAMAGE = 1 << 2;
+    private static final int MAX_DAMAGE = 1 << 3;
+    private static final int UNBREAKABLE = 1 << 4;
+    private static final int CHARGE_TYPES = 1 << 5;
+    private static final int CUSTOM_MODEL_DATA = 1 << 6;
+
+    /**
+     * Sorted from most predicates to least, like {@link org.geysermc.geyser.registry.type.ItemMapping#getCustomItemDefinitions()}.
+     */
+    private final GeyserCustomMappingData[] mappings;
+    private final CompiledPredicate[][] predicates;
+    private final boolean[] matchAny;
+    /**
+     * The values the compiled predicates read, so other component changes don't affect the memo.
+     */
+    private final int inputs;
+    /**
+     * Index of the matching custom item (or -1) for the values read, if no predicate needs a full context.
+     */
+    private final @Nullable Cache<Inputs, Integer> memo;
+
+    private CustomItemPredicateTable(Collection<GeyserCustomMappingData> definitions) {
+        this.mappings = definitions.toArray(GeyserCustomMappingData[]::new);
+        this.predicates = new CompiledPredicate[mappings.length][];
+        this.matchAny = new boolean[mappings.length];
+
+        int inputs = 0;
+        boolean memoizable = true;
+        for (int i = 0; i < mappings.length; i++) {
+            CustomItemDefinition definition = mappings[i].definition();
+            matchAny[i] = definition.predicateStrategy() == PredicateStrategy.OR;
+
+            List<MinecraftPredicate<? super ItemPredicateContext>> javaPredicates = definition.predicates();
+            predicates[i] = new CompiledPredicate[javaPredicates.size()];
+            for (int j = 0; j < predicates[i].length; j++) {
+                CompiledPredicate predicate = compile(javaPredicates.get(j));
+                if (predicate instanceof Fallback) {
+                    memoizable = false;
+                }
+                inputs |= predicate.inputs();
+                predicates[i][j] = predicate;
+            }
+        }
+        this.inputs = inputs;
+        this.memo = memoizable ? CacheBuilder.newBuilder().maximumSize(MEMO_SIZE).build() : null;
+    }
+
+    /**
+     * @param definitions all custom items of an item, grouped by item model
+     * @return a table for each item model
+     */
+    public static Map<Key, CustomItemPredicateTable> compile(SortedSetMultimap<Key, GeyserCustomMappingData> definitions) {
+        Map<Key, CustomItemPredicateTable> tables = new Object2ObjectOpenHashMap<>(definitions.keySet().size());
+        for (Key model : definitions.keySet()) {
+            tables.put(model, new CustomItemPredicateTable(definitions.get(model)));
+        }
+        return tables;
+    }
+
+    /**
+     * @param components ALL components of the item; not just the patch
+     * @return the definition of the first custom item whose predicates match, or null
+     */
+    public @Nullable ItemDefinition lookup(GeyserSession session, int count, DataComponents components) {
+        Inputs values = Inputs.read(inputs, count, components);
+        if (memo == null) {
+            return definition(find(values, new LazyContext(session, count, components)));
+        }
+
+        Integer index = memo.getIfPresent(values);
+        if (index == null) {
+            index = find(values, null);
+            memo.put(values, index);
+        }
+        return definition(index);
+    }
+
+    private int find(Inputs values, @Nullable LazyContext context) {
+        for (int i = 0; i < mappings.length; i++) {
+            if (matches(predicates[i], matchAny[i], values, context)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private @Nullable ItemDefinition definition(int index) {
+        return index < 0 ? null : mappings[index].itemDefinition();
+    }
+
+    private static boolean matches(CompiledPredicate[] predicates, boolean matchAny, Inputs values, @Nullable LazyContext context) {
+        // Items without predicates always match
+        if (predicates.length == 0) {
+            return true;
+        }
+        for (CompiledPredicate predicate : predicates) {
+            // For OR, one match is enough; for AND, one mismatch is enough
+            if (predicate.test(values, context) == matchAny) {
+                return matchAny;
+            }
+        }
+        return !matchAny;
+    }
+
+    private static CompiledPredicate compile(MinecraftPredicate<? super ItemPredicateContext> predicate) {
+        if (predicate instanceof GeyserRangeDispatchPredicate range) {
+            return switch (range.rangeProperty()) {
+                case DAMAGE -> new DamageRange(range.threshold(), range.normalized(), range.negated());
+                case COUNT -> new CountRange(range.threshold(), range.normalized(), range.negated());
+                case CUSTOM_MODEL_DATA -> new CustomModelDataRange(range.index(), range.threshold(), range.normalized(), range.negated());
+                // Needs the session to look up the bundle contents
+                case BUNDLE_FULLNESS -> new Fallback(predicate);
+            };
+        } else if (predicate instanceof GeyserCustomModelDataPredicate.GeyserFlagPredicate flag) {
+            return new CustomModelDataFlag(flag.index(), flag.negated());
+        } else if (predicate instanceof GeyserCustomModelDataPredicate.GeyserStringPredicate string) {
+            return new CustomModelDataString(string.string(), string.index(), string.negated());
+        } else if (predicate instanceof GeyserChargeTypePredicate chargeType) {
+            return new ChargeType(1 << chargeType.type().ordinal(), chargeType.negated());
+        } else if (predicate == ItemConditionPredicate.UNBREAKABLE) {
+            return new Unbreakable();
+        }
+        return new Fallback(predicate);
+    }
+
+    private static boolean range(double value, double max, boolean normalized, double threshold, boolean negated) {
+        if (normalized) {
+            if (max == 0.0) {
+                return false;
+            }
+            value /= max;
+        }
+        return negated ? value < threshold : value >= threshold;
+    }
+
+    /**
+     * The values the compiled predicates of a table read. Values the table doesn't read are left at their default.
+     */
+    private record Inputs(int count, int maxStackSize, int damage, int maxDamage, boolean unbreakable, int chargeTypes,
+                          @Nullable CustomModelData customModelData) {
+
+        static Inputs read(int inputs, int count, DataComponents components) {
+            return new Inputs(
+                (inputs & COUNT) != 0 ? count : 0,
+                (inputs & MAX_STACK_SIZE) != 0 ? components.getOrDefault(DataComponentTypes.MAX_STACK_SIZE, 64) : 0,
+                (inputs & DAMAGE) != 0 ? components.getOrDefault(DataComponentTypes.DAMAGE, 0) : 0,
+                (inputs & MAX_DAMAGE) != 0 ? components.getOrDefault(DataComponentTypes.MAX_DAMAGE, 0) : 0,
+                (inputs & UNBREAKABLE) != 0 && components.get(DataComponentTypes.UNBREAKABLE) != null,
+                (inputs & CHARGE_TYPES) != 0 ? chargeTypes(components) : 0,
+                (inputs & CUSTOM_MODEL_DATA) != 0 ? components.get(DataComponentTypes.CUSTOM_MODEL_DATA) : null
+            );
+        }
+
+        private static int chargeTypes(DataComponents components) {
+            List<ItemStack> projectiles = components.get(DataComponentTypes.CHARGED_PROJECTILES);
+            if (projectiles == null) {
+                return 0;
+            }
+            int types = 0;
+            for (ItemStack projectile : projectiles) {
+                ChargedProjectile.ChargeType type = projectile.getId() == Items.FIREWORK_ROCKET.javaId() ? ChargedProjectile.ChargeType.ROCKET : ChargedProjectile.ChargeType.ARROW;
+                types |= 1 << type.ordinal();
+            }
+            return types;
+        }
+
+        boolean customModelDataFlag(int index) {
+            if (customModelData == null || index >= customModelData.flags().size()) {
+                return false;
+            }
+            Boolean flag = customModelData.flags().get(index);
+            return flag != null && flag;
+        }
+
+        @Nullable String customModelDataString(int index) {
+            if (customModelData == null || index >= customModelData.strings().size()) {
+                return null;
+            }
+            return customModelData.strings().get(index);
+        }
+
+        float customModelDataFloat(int index) {
+            if (customModelData == null || index >= customModelData.floats().size()) {
+                return 0.0F;
+            }
+            Float value = customModelData.floats().get(index);
+            return value == null ? 0.0F : value;
+        }
+    }
+
+    private static final class LazyContext {
+        private final GeyserSession session;
+        private final int count;
+        private final DataComponents components;
+        private @Nullable ItemPredicateContext context;
+
+        LazyContext(GeyserSession session, int count, DataComponents components) {
+            this.session = session;
+            this.count = count;
+            this.components = components;
+        }
+
+        ItemPredicateContext get() {
+            if (context == null) {
+                context = GeyserItemPredicateContext.create(session, count, components);
+            }
+            return context;
+        }
+    }
+
+    private sealed interface CompiledPredicate {
+
+        boolean test(Inputs values, @Nullable LazyContext context);
+
+        /**
+         * @return the values this predicate reads
+         */
+        int inputs();
+    }
+
+    private record DamageRange(double threshold, boolean normalized, boolean negated) implements CompiledPredicate {
+
+        @Override
+        public boolean test(Inputs values, @Nullable LazyContext context) {
+            return range(values.damage(), values.maxDamage(), normalized, threshold, negated);
+        }
+
+        @Override
+        public int inputs() {
+            return normalized ? DAMAGE | MAX_DAMAGE : DAMAGE;
+        }
+    }
+
+    private record CountRange(double threshold, boolean normalized, boolean negated) implements CompiledPredicate {
+
+        @Override
+        public boolean test(Inputs values, @Nullable LazyContext context) {
+            return range(values.count(), values.maxStackSize(), normalized, threshold, negated);
+        }
+
+        @Override
+        public int inputs() {
+            return normalized ? COUNT | MAX_STACK_SIZE : COUNT;
+        }
+    }
+
+    private record CustomModelDataRange(int index, double threshold, boolean normalized, boolean negated) implements CompiledPredicate {
+
+        @Override
+        public boolean test(Inputs values, @Nullable LazyContext context) {
+            // Custom model data has no maximum to normalize against
+            return !normalized && range(values.customModelDataFloat(index), 0.0, false, threshold, negated);
+        }
+
+        @Override
+        public int inputs() {
+            return CUSTOM_MODEL_DATA;
+        }
+    }
+
+    private record CustomModelDataFlag(int index, boolean negated) implements CompiledPredicate {
+
+        @Override
+        public boolean test(Inputs values, @Nullable LazyContext context) {
+            return negated != values.customModelDataFlag(index);
+        }
+
+        @Override
+        public int inputs() {
+            return CUSTOM_MODEL_DATA;
+        }
+    }
+
+    private record CustomModelDataString(@Nullable String string, int index, boolean negated) implements CompiledPredicate {
+
+        @Override
+        public boolean test(Inputs values, @Nullable LazyContext context) {
+            return negated != Objects.equals(string, values.customModelDataString(index));
+        }
+
+        @Override
+        public int inputs() {
+            return CUSTOM_MODEL_DATA;
+        }
+    }
+
+    private record ChargeType(int type, boolean negated) implements CompiledPredicate {
+
+        @Override
+        public boolean test(Inputs values, @Nullable LazyContext context) {
+            return negated != ((values.chargeTypes() & type) != 0);
+        }
+
+        @Override
+        public int inputs() {
+            return CHARGE_TYPES;
+        }
+    }
+
+    private record Unbreakable() implements CompiledPredicate {
+
+        @Override
+        public boolean test(Inputs values, @Nullable LazyContext context) {
+            return values.unbreakable();
+        }
+
+        @Override
+        public int inputs() {
+            return UNBREAKABLE;
+        }
+    }
+
+    /**
+     * Any other predicate, which is tested against a full context.
+     */
+    private record Fallback(MinecraftPredicate<? super ItemPredicateContext> predicate) implements CompiledPredicate {
+
+        @Override
+        public boolean test(Inputs values, @Nullable LazyContext context) {
+            return predicate.test(Objects.requireNonNull(context, "context").get());
+        }
+
+        @Override
+        public int inputs() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.math.vector.Vector3i;
+import org.geysermc.geyser.util.MathUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A map of block positions to values that are attached to blocks (item frames, skulls...), that can also look up
+ * everything in a chunk without iterating over every value.
+ *
+ * @param <V> the value
+ */
+public final class BlockPositionIndex<V> {
+    private final Map<Vector3i, V> byPosition = new Object2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<Map<Vector3i, V>> byChunk = new Long2ObjectOpenHashMap<>();
+
+    public @Nullable V get(Vector3i position) {
+        return byPosition.get(position);
+    }
+
+    public @Nullable V put(Vector3i position, V value) {
+        V previous = byPosition.put(position, value);
+        chunk(position, true).put(position, value);
+        return previous;
+    }
+
+    public V computeIfAbsent(Vector3i position, Function<Vector3i, V> function) {
+        V value = byPosition.get(position);
+        if (value == null) {
+            value = function.apply(position);
+            put(position, value);
+        }
+        return value;
+    }
+
+    public @Nullable V remove(Vector3i position) {
+        V value = byPosition.remove(position);
+        if (value != null) {
+            removeFromChunk(position);
+        }
+        return value;
+    }
+
+    /**
+     * Only removes the position if it is currently mapped to the given value.
+     */
+    public boolean remove(Vector3i position, V value) {
+        if (byPosition.remove(position, value)) {
+            removeFromChunk(position);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return every value in the given chunk. Must not be modified; copy it if this index is modified while iterating.
+     */
+    public Collection<V> inChunk(int chunkX, int chunkZ) {
+        Map<Vector3i, V> chunk = byChunk.get(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+        return chunk == null ? Collections.emptyList() : Collections.unmodifiableCollection(chunk.values());
+    }
+
+    /**
+     * Runs the consumer on every value in the ring of chunks that is exactly the given amount of chunks away from the
+     * chunk containing the given position. Ring 0 is that chunk itself. Every value in ring {@code ring} is more than
+     * {@code (ring - 1) * 16} blocks away horizontally, so rings can be visited from the inside out to find the nearest
+     * values without looking at everything.
+     */
+    public void forEachInRing(double x, double z, int ring, Consumer<V> consumer) {
+        int centerX = ((int) Math.floor(x)) >> 4;
+        int centerZ = ((int) Math.floor(z)) >> 4;
+        if (ring == 0) {
+            forEachInChunk(centerX, centerZ, consumer);
+            return;
+        }
+        for (int offset = -ring; offset <= ring; offset++) {
+            forEachInChunk(centerX + offset, centerZ - ring, consumer);
+            forEachInChunk(centerX + offset, centerZ + ring, consumer);
+        }
+        for (int offset = -ring + 1; offset < ring; offset++) {
+            forEachInChunk(centerX - ring, centerZ + offset, consumer);
+            forEachInChunk(centerX + ring, centerZ + offset, consumer);
+        }
+    }
+
+    private void forEachInChunk(int chunkX, int chunkZ, Consumer<V> consumer) {
+        Map<Vector3i, V> chunk = byChunk.get(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+        if (chunk != null) {
+            chunk.values().forEach(consumer);
+        }
+    }
+
+    /**
+     * @return whether any chunk overlapping the given horizontal block area has a value. This only rules out areas
+     * that are definitely empty.
+     */
+    public boolean anyNear(int minX, int minZ, int maxX, int maxZ) {
+        if (byChunk.isEmpty()) {
+            return false;
+        }
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                if (byChunk.containsKey(MathUtils.chunkPositionToLong(chunkX, chunkZ))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public Set<Vector3i> keySet() {
+        return Collections.unmodifiableSet(byPosition.keySet());
+    }
+
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(byPosition.values());
+    }
+
+    public int size() {
+        return byPosition.size();
+    }
+
+    public boolean isEmpty() {
+        return byPosition.isEmpty();
+    }
+
+    public void clear() {
+        byPosition.clear();
+        byChunk.clear();
+    }
+
+    private @Nullable Map<Vector3i, V> chunk(Vector3i position, boolean create) {
+        long key = MathUtils.chunkPositionToLong(position.getX() >> 4, position.getZ() >> 4);
+        Map<Vector3i, V> chunk = byChunk.get(key);
+        if (chunk == null && create) {
+            chunk = new Object2ObjectOpenHashMap<>(4);
+            byChunk.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    private void removeFromChunk(Vector3i position) {
+        Map<Vector3i, V> chunk = chunk(position, false);
+        if (chunk != null) {
+            chunk.remove(position);
+            if (chunk.isEmpty()) {
+                byChunk.remove(MathUtils.chunkPositionToLong(position.getX() >> 4, position.getZ() >> 4));
+            }
+        }
+    }
+}
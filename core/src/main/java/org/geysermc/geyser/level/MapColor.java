@@ -276,6 +276,16 @@ public enum MapColor {
     COLOR_247(67, 88, 79);
 
     private static final MapColor[] VALUES = values();
+    /**
+     * ABGR value for every possible (unsigned) color byte, so maps can be converted without going through the enum
+     */
+    private static final int[] ABGR_BY_ID = new int[256];
+
+    static {
+        for (int i = 0; i < ABGR_BY_ID.length; i++) {
+            ABGR_BY_ID[i] = fromId(i).getABGR();
+        }
+    }
 
     private final int value;
 
@@ -294,6 +304,14 @@ public enum MapColor {
         return id >= 0 && id < VALUES.length ? VALUES[id] : COLOR_0;
     }
 
+    /**
+     * @param colorId the Java map color byte
+     * @return the ABGR value of the color
+     */
+    public static int abgrFromId(byte colorId) {
+        return ABGR_BY_ID[colorId & 0xFF];
+    }
+
     /**
      * Get the ABGR value of the color, bedrock uses this over the network
      * @return the int value of the color
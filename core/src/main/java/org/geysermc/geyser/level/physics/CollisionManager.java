@@ -240,7 +240,7 @@ public class CollisionManager {
         Vector3d position = Vector3d.from(box.getMiddleX(), box.getMiddleY() - (box.getSizeY() / 2), box.getMiddleZ());
 
         // Expand volume by 1 in each direction to include moving blocks
-        double pistonExpand = session.getPistonCache().getPistons().isEmpty() ? 0 : 1;
+        double pistonExpand = session.getPistonCache().hasMovingBlocksNear(box) ? 1 : 0;
 
         // Loop through all blocks that could collide
         int minCollisionX = (int) Math.floor(position.getX() - ((box.getSizeX() / 2) + COLLISION_TOLERANCE + pistonExpand));
@@ -295,9 +295,17 @@ public class CollisionManager {
     public Vector3d correctPlayerMovement(Vector3d movement, boolean checkWorld, boolean teleported) {
         // On the teleported check: see https://github.com/GeyserMC/Geyser/issues/2540
         // As of this commit we don't know how it happens but we don't need to check movement here anyway in that case
-        if (teleported || (!checkWorld && session.getPistonCache().getPistons().isEmpty())) { // There is nothing to check
+        if (teleported) {
             return movement;
         }
+        if (!checkWorld) {
+            // Check where the player moves to as well, as fast players can reach moving blocks within one tick
+            BoundingBox movementBoundingBox = playerBoundingBox.clone();
+            movementBoundingBox.extend(movement);
+            if (!session.getPistonCache().hasMovingBlocksNear(movementBoundingBox)) { // There is nothing to check
+                return movement;
+            }
+        }
         return correctMovement(movement, playerBoundingBox, session.getPlayerEntity().isOnGround(), PLAYER_STEP_UP, checkWorld, false);
     }
 
@@ -27,6 +27,8 @@ package org.geysermc.geyser.network;
 
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.codec.BedrockCodec;
 import org.cloudburstmc.protocol.bedrock.codec.v1001.Bedrock_v1001;
@@ -123,6 +125,39 @@ public final class GameProtocol {
         register(codec, codec.getMinecraftVersion());
     }
 
+    /**
+     * Drops support for the Bedrock versions that aren't listed, so their mappings don't need to be loaded.
+     * The latest version is always kept. If none of the listed versions are supported, every version is kept
+     * instead. Must be called before the registries are populated.
+     *
+     * @param minecraftVersions the Minecraft versions to keep, or an empty list to keep all of them
+     * @return the listed versions that aren't supported
+     */
+    public static List<String> retainBedrockVersions(List<String> minecraftVersions) {
+        if (minecraftVersions.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> unmatched = new ArrayList<>(minecraftVersions);
+        IntSet retained = new IntOpenHashSet();
+        for (MinecraftVersion version : SUPPORTED_BEDROCK_VERSIONS) {
+            if (minecraftVersions.contains(version.versionString())) {
+                retained.add(version.protocolVersion());
+                unmatched.removeIf(version.versionString()::equals);
+            }
+        }
+        if (retained.isEmpty()) {
+            // Most likely a typo; dropping down to only the latest version would lock out most players
+            return unmatched;
+        }
+        retained.add(DEFAULT_BEDROCK_PROTOCOL);
+
+        SUPPORTED_BEDROCK_CODECS.removeIf(codec -> !retained.contains(codec.getProtocolVersion()));
+        SUPPORTED_BEDROCK_PROTOCOLS.removeIf(protocolVersion -> !retained.contains(protocolVersion));
+        SUPPORTED_BEDROCK_VERSIONS.removeIf(version -> !retained.contains(version.protocolVersion()));
+        return unmatched;
+    }
+
     /**
      * Gets the {@link BedrockPacketCodec} of the given protocol version.
      * @param protocolVersion The protocol version to attempt to find
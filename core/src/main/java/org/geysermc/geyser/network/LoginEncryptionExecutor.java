@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.cloudburstmc.protocol.bedrock.util.EncryptionUtils;
+
+import java.security.KeyPair;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs the cryptographic part of Bedrock logins (chain validation and the ECDH handshake) away from the
+ * network threads. Server key pairs are generated ahead of time and refilled in the background, so a burst
+ * of logins after a backend restart does not have to wait on key generation.
+ */
+public final class LoginEncryptionExecutor {
+    /**
+     * How many pre-generated server key pairs to keep around. Every login consumes one.
+     */
+    private static final int KEY_PAIR_POOL_SIZE = 64;
+    /**
+     * How many logins can be waiting for a worker before new logins are turned away.
+     */
+    private static final int MAX_QUEUED_LOGINS = 256;
+
+    private final ThreadPoolExecutor executor;
+    /**
+     * Refills the key pool on its own thread, so it never holds up logins or runs on the thread that took a key pair.
+     */
+    private final ThreadPoolExecutor refillExecutor;
+    private final BlockingQueue<KeyPair> keyPairs = new ArrayBlockingQueue<>(KEY_PAIR_POOL_SIZE);
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder totalHandshakeNanos = new LongAdder();
+    private final AtomicLong maxHandshakeNanos = new AtomicLong();
+    private final LongAdder keyPairPoolMisses = new LongAdder();
+    private final LongAdder rejectedLogins = new LongAdder();
+
+    public LoginEncryptionExecutor() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED_LOGINS), new DefaultThreadFactory("Geyser Login Thread", true),
+            (runnable, executor) -> {
+                rejectedLogins.increment();
+                throw new RejectedExecutionException("Too many logins are waiting");
+            });
+        this.executor.allowCoreThreadTimeOut(true);
+        // Only one refill is ever in flight, so the queue never grows
+        this.refillExecutor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new DefaultThreadFactory("Geyser Login Key Thread", true, Thread.MIN_PRIORITY));
+        this.refillExecutor.allowCoreThreadTimeOut(true);
+        refillKeyPairs();
+    }
+
+    /**
+     * @return the result of the task, or a future failed with a {@link RejectedExecutionException} if too many logins
+     * are waiting or Geyser is shutting down
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Takes a server key pair from the pool, or generates one if the pool is currently drained.
+     * Key pairs are never handed out twice.
+     */
+    public KeyPair takeKeyPair() {
+        KeyPair keyPair = keyPairs.poll();
+        if (keyPair == null) {
+            keyPairPoolMisses.increment();
+            keyPair = EncryptionUtils.createKeyPair();
+        }
+        refillKeyPairs();
+        return keyPair;
+    }
+
+    private void refillKeyPairs() {
+        if (refillExecutor.isShutdown() || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refillExecutor.execute(() -> {
+                try {
+                    while (keyPairs.remainingCapacity() > 0 && !refillExecutor.isShutdown()) {
+                        keyPairs.offer(EncryptionUtils.createKeyPair());
+                    }
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            refilling.set(false);
+        }
+    }
+
+    /**
+     * Records how long it took from receiving the login packet until the handshake was sent.
+     */
+    public void recordHandshake(long nanos) {
+        handshakes.increment();
+        totalHandshakeNanos.add(nanos);
+        maxHandshakeNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long handshakeCount() {
+        return handshakes.sum();
+    }
+
+    public double averageHandshakeMillis() {
+        long count = handshakes.sum();
+        return count == 0 ? 0 : totalHandshakeNanos.sum() / (double) count / 1_000_000D;
+    }
+
+    public double maxHandshakeMillis() {
+        return maxHandshakeNanos.get() / 1_000_000D;
+    }
+
+    public long keyPairPoolMisses() {
+        return keyPairPoolMisses.sum();
+    }
+
+    public long rejectedLogins() {
+        return rejectedLogins.sum();
+    }
+
+    public int pendingLogins() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+        refillExecutor.shutdown();
+        keyPairs.clear();
+    }
+}
@@ -30,11 +30,7 @@ import org.cloudburstmc.math.vector.Vector2f;
 import org.cloudburstmc.protocol.bedrock.BedrockDisconnectReasons;
 import org.cloudburstmc.protocol.bedrock.codec.BedrockCodec;
 import org.cloudburstmc.protocol.bedrock.codec.compat.BedrockCompat;
-import org.cloudburstmc.protocol.bedrock.data.PacketCompressionAlgorithm;
 import org.cloudburstmc.protocol.bedrock.data.ResourcePackType;
-import org.cloudburstmc.protocol.bedrock.netty.codec.compression.CompressionStrategy;
-import org.cloudburstmc.protocol.bedrock.netty.codec.compression.SimpleCompressionStrategy;
-import org.cloudburstmc.protocol.bedrock.netty.codec.compression.ZlibCompression;
 import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
 import org.cloudburstmc.protocol.bedrock.packet.LoginPacket;
 import org.cloudburstmc.protocol.bedrock.packet.ModalFormResponsePacket;
@@ -50,7 +46,6 @@ import org.cloudburstmc.protocol.bedrock.packet.ResourcePackStackPacket;
 import org.cloudburstmc.protocol.bedrock.packet.ResourcePacksInfoPacket;
 import org.cloudburstmc.protocol.bedrock.packet.SetTitlePacket;
 import org.cloudburstmc.protocol.common.PacketSignal;
-import org.cloudburstmc.protocol.common.util.Zlib;
 import org.geysermc.geyser.Constants;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.event.bedrock.SessionInitializeEvent;
@@ -60,6 +55,9 @@ import org.geysermc.geyser.api.pack.ResourcePack;
 import org.geysermc.geyser.api.pack.ResourcePackManifest;
 import org.geysermc.geyser.api.pack.option.ResourcePackOption;
 import org.geysermc.geyser.event.type.SessionLoadResourcePacksEventImpl;
+import org.geysermc.geyser.network.compression.CompressionPolicy;
+import org.geysermc.geyser.network.compression.CompressionSettings;
+import org.geysermc.geyser.network.compression.SessionCompressionStrategy;
 import org.geysermc.geyser.pack.GeyserResourcePack;
 import org.geysermc.geyser.pack.ResourcePackHolder;
 import org.geysermc.geyser.pack.url.GeyserUrlPackCodec;
@@ -91,7 +89,6 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
     private boolean receivedLoginPacket = false;
     private boolean finishedResourcePackSending = false;
     private final Deque<String> packsToSend = new ArrayDeque<>();
-    private final CompressionStrategy compressionStrategy;
     // Avoid overloading consoles when downloading larger resource packs
     private static final int PACKET_SEND_DELAY = 4 * 50;
     private final Queue<ResourcePackChunkRequestPacket> chunkRequestQueue = new ConcurrentLinkedQueue<>();
@@ -100,10 +97,6 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
 
     public UpstreamPacketHandler(GeyserImpl geyser, GeyserSession session) {
         super(geyser, session);
-
-        ZlibCompression compression = new ZlibCompression(Zlib.RAW);
-        compression.setLevel(this.geyser.config().advanced().bedrock().compressionLevel());
-        this.compressionStrategy = new SimpleCompressionStrategy(compression);
     }
 
     private PacketSignal translateAndDefault(BedrockPacket packet) {
@@ -167,11 +160,16 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         }
 
         // New since 1.19.30 - sent before login packet
+        CompressionPolicy policy = CompressionPolicy.fromConfig(geyser.config().advanced().bedrock());
+        CompressionSettings settings = policy.initialSettings(session.getSocketAddress());
+        SessionCompressionStrategy compressionStrategy = new SessionCompressionStrategy(policy, settings);
+
         NetworkSettingsPacket responsePacket = new NetworkSettingsPacket();
-        responsePacket.setCompressionAlgorithm(PacketCompressionAlgorithm.ZLIB);
-        responsePacket.setCompressionThreshold(512);
+        responsePacket.setCompressionAlgorithm(settings.algorithm());
+        responsePacket.setCompressionThreshold(settings.threshold());
         session.sendUpstreamPacketImmediately(responsePacket);
         session.getUpstream().getSession().getPeer().setCompression(compressionStrategy);
+        session.setCompressionStrategy(compressionStrategy);
 
         networkSettingsRequested = true;
         return PacketSignal.HANDLED;
@@ -197,17 +195,27 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         }
         receivedLoginPacket = true;
 
-        LoginEncryptionUtils.encryptPlayerConnection(session, loginPacket);
+        // Validation and the encryption handshake run off the network thread; we continue on it once done
+        LoginEncryptionUtils.encryptPlayerConnection(session, loginPacket)
+            .thenRun(() -> onLoginEncrypted(loginPacket))
+            .exceptionally(throwable -> {
+                geyser.getLogger().error("Error while handling login of " + session.bedrockUsername(), throwable);
+                session.disconnect("disconnectionScreen.internalError.cantConnect");
+                return null;
+            });
+        return PacketSignal.HANDLED;
+    }
 
+    private void onLoginEncrypted(LoginPacket loginPacket) {
         if (session.isClosed()) {
             // Can happen if Xbox validation fails
             session.forciblyCloseUpstream();
-            return PacketSignal.HANDLED;
+            return;
         }
 
         if (geyser.getSessionManager().isXuidAlreadyPending(session.xuid()) || geyser.getSessionManager().sessionByXuid(session.xuid()) != null) {
             session.disconnect(GeyserLocale.getLocaleStringLog("geyser.auth.already_loggedin", session.bedrockUsername()));
-            return PacketSignal.HANDLED;
+            return;
         }
 
         // Set the block translation based off of version
@@ -227,7 +235,7 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         this.geyser.eventBus().fireEventElseKick(this.resourcePackLoadEvent, session);
         if (session.isClosed()) {
             // Can happen if an error occurs in the resource pack event; that'll disconnect the player
-            return PacketSignal.HANDLED;
+            return;
         }
         session.integratedPackActive(resourcePackLoadEvent.isIntegratedPackActive());
 
@@ -243,7 +251,6 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         session.sendUpstreamPacket(resourcePacksInfo);
 
         GeyserLocale.loadGeyserLocale(session.locale());
-        return PacketSignal.HANDLED;
     }
 
     @Override
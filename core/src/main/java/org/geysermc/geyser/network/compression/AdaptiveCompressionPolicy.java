@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.compression;
+
+import org.cloudburstmc.protocol.bedrock.data.PacketCompressionAlgorithm;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * Picks the compression by where the client connects from, and tunes the zlib level to how much bandwidth and CPU
+ * time a session uses.
+ * <ul>
+ *     <li>Clients on the same machine (including Bedrock proxies such as WaterdogPE) are sent uncompressed packets, but
+ *     only if the proxy protocol is used. Otherwise, a UDP reverse proxy on the same machine would make every remote
+ *     client look local.</li>
+ *     <li>Clients on the local network use Snappy, which is much cheaper than zlib while still halving most batches.</li>
+ *     <li>Everyone else uses zlib. Its level is lowered while compressing takes up a lot of CPU time, and raised again
+ *     (up to the configured level) for sessions that use a lot of bandwidth.</li>
+ * </ul>
+ * Clients behind a UDP proxy using the proxy protocol are judged by the address the proxy forwards, as the proxy sends
+ * our packets on as they are.
+ */
+public final class AdaptiveCompressionPolicy implements CompressionPolicy {
+    private static final int LOCAL_NETWORK_THRESHOLD = 256;
+    private static final int MIN_LEVEL = 1;
+    /**
+     * A single session spending more than this share of its network thread on compression is too much.
+     */
+    private static final double MAX_CPU_SHARE = 0.02;
+    private static final double HIGH_PROCESS_CPU_LOAD = 0.8;
+    private static final double HIGH_BYTES_PER_SECOND = 128 * 1024;
+    private static final long CPU_LOAD_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static volatile double processCpuLoad;
+    private static volatile long processCpuLoadReadAt;
+
+    private final int maxLevel;
+    /**
+     * Whether client addresses are forwarded by the proxy protocol, so a loopback address really is a local client.
+     */
+    private final boolean trustLoopback;
+
+    public AdaptiveCompressionPolicy(int configuredLevel, boolean trustLoopback) {
+        this.maxLevel = configuredLevel < 0 ? 6 : Math.min(configuredLevel, Deflater.BEST_COMPRESSION);
+        this.trustLoopback = trustLoopback;
+    }
+
+    @Override
+    public CompressionSettings initialSettings(InetSocketAddress address) {
+        InetAddress inetAddress = address.getAddress();
+        if (inetAddress == null) {
+            return new CompressionSettings(PacketCompressionAlgorithm.ZLIB, maxLevel, CompressionSettings.DEFAULT_THRESHOLD);
+        }
+        if (inetAddress.isLoopbackAddress() || inetAddress.isAnyLocalAddress()) {
+            if (trustLoopback) {
+                return new CompressionSettings(PacketCompressionAlgorithm.ZLIB, maxLevel, CompressionSettings.MAX_THRESHOLD);
+            }
+            return new CompressionSettings(PacketCompressionAlgorithm.ZLIB, maxLevel, CompressionSettings.DEFAULT_THRESHOLD);
+        }
+        if (isLocalNetwork(inetAddress)) {
+            return new CompressionSettings(PacketCompressionAlgorithm.SNAPPY, maxLevel, LOCAL_NETWORK_THRESHOLD);
+        }
+        return new CompressionSettings(PacketCompressionAlgorithm.ZLIB, maxLevel, CompressionSettings.DEFAULT_THRESHOLD);
+    }
+
+    @Override
+    public CompressionSettings adjust(CompressionSettings current, CompressionSample sample) {
+        if (current.algorithm() != PacketCompressionAlgorithm.ZLIB || current.threshold() == CompressionSettings.MAX_THRESHOLD) {
+            return current;
+        }
+
+        boolean underPressure = sample.cpuShare() > MAX_CPU_SHARE || processCpuLoad() > HIGH_PROCESS_CPU_LOAD;
+        if (underPressure) {
+            if (current.level() > MIN_LEVEL) {
+                return current.withLevel(current.level() - 1);
+            }
+        } else if (sample.bytesPerSecond() > HIGH_BYTES_PER_SECOND && current.level() < maxLevel) {
+            return current.withLevel(current.level() + 1);
+        }
+        return current;
+    }
+
+    private static boolean isLocalNetwork(InetAddress address) {
+        if (address.isSiteLocalAddress() || address.isLinkLocalAddress()) {
+            return true;
+        }
+        // Unique local IPv6 addresses (fc00::/7) aren't considered site local by Java
+        return address instanceof Inet6Address && (address.getAddress()[0] & 0xFE) == 0xFC;
+    }
+
+    /**
+     * @return the recent CPU usage of this process between 0 and 1, or a negative value if unknown
+     */
+    private static double processCpuLoad() {
+        long now = System.nanoTime();
+        if (now - processCpuLoadReadAt > CPU_LOAD_REFRESH_NANOS) {
+            OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+            processCpuLoad = bean instanceof com.sun.management.OperatingSystemMXBean sunBean ? sunBean.getProcessCpuLoad() : -1;
+            processCpuLoadReadAt = now;
+        }
+        return processCpuLoad;
+    }
+}
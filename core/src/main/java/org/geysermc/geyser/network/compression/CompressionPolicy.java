@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.compression;
+
+import org.geysermc.geyser.configuration.GeyserConfig;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Decides how the packets of each Bedrock session are compressed.
+ */
+public interface CompressionPolicy {
+
+    /**
+     * @param address the address of the client, or of the proxy in front of it if it doesn't forward the address
+     * @return the settings the session starts with
+     */
+    CompressionSettings initialSettings(InetSocketAddress address);
+
+    /**
+     * Called every few seconds while packets are sent. The algorithm can't be changed after the client has been told
+     * about it, so only the level and threshold of the returned settings are used.
+     *
+     * @param current the settings in use
+     * @param sample what has been compressed since the last call
+     * @return the settings to use from now on
+     */
+    default CompressionSettings adjust(CompressionSettings current, CompressionSample sample) {
+        return current;
+    }
+
+    static CompressionPolicy fromConfig(GeyserConfig.AdvancedBedrockConfig config) {
+        if (config.adaptiveCompression()) {
+            return new AdaptiveCompressionPolicy(config.compressionLevel(), config.useHaproxyProtocol());
+        }
+        return new FixedCompressionPolicy(config.compressionLevel());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.compression;
+
+/**
+ * What was compressed for a session since the last sample.
+ *
+ * @param uncompressedBytes the size of all batches before compression
+ * @param compressedBytes the size of all batches after compression
+ * @param compressionNanos the time spent compressing, on the session's network thread
+ * @param elapsedNanos the time since the last sample
+ */
+public record CompressionSample(long uncompressedBytes, long compressedBytes, long compressionNanos, long elapsedNanos) {
+
+    /**
+     * @return the share of the elapsed time spent compressing
+     */
+    public double cpuShare() {
+        return elapsedNanos <= 0 ? 0 : (double) compressionNanos / elapsedNanos;
+    }
+
+    /**
+     * @return how many compressed bytes were sent per second
+     */
+    public double bytesPerSecond() {
+        return elapsedNanos <= 0 ? 0 : compressedBytes * 1_000_000_000.0 / elapsedNanos;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.compression;
+
+import org.cloudburstmc.protocol.bedrock.data.PacketCompressionAlgorithm;
+
+/**
+ * How packets to a Bedrock client are compressed.
+ *
+ * @param algorithm the algorithm the client is told to use; either zlib or Snappy
+ * @param level the zlib compression level
+ * @param threshold batches smaller than this many bytes are sent uncompressed
+ */
+public record CompressionSettings(PacketCompressionAlgorithm algorithm, int level, int threshold) {
+    public static final int DEFAULT_THRESHOLD = 512;
+    /**
+     * The highest threshold the client can be told about, which effectively disables compression.
+     */
+    public static final int MAX_THRESHOLD = 65535;
+
+    public CompressionSettings withLevel(int level) {
+        return new CompressionSettings(algorithm, level, threshold);
+    }
+}
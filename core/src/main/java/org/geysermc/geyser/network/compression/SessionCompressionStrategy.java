@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.compression;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.Getter;
+import org.cloudburstmc.protocol.bedrock.data.CompressionAlgorithm;
+import org.cloudburstmc.protocol.bedrock.data.PacketCompressionAlgorithm;
+import org.cloudburstmc.protocol.bedrock.netty.BedrockBatchWrapper;
+import org.cloudburstmc.protocol.bedrock.netty.codec.compression.BatchCompression;
+import org.cloudburstmc.protocol.bedrock.netty.codec.compression.CompressionStrategy;
+import org.cloudburstmc.protocol.bedrock.netty.codec.compression.NoopCompression;
+import org.cloudburstmc.protocol.bedrock.netty.codec.compression.SnappyCompression;
+import org.cloudburstmc.protocol.bedrock.netty.codec.compression.ZlibCompression;
+import org.cloudburstmc.protocol.common.util.Zlib;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compresses the packets of one session as its {@link CompressionPolicy} decides, and keeps track of how well that works.
+ * <p>
+ * Batches are only compressed on the session's network thread, so the counters have a single writer; they are volatile
+ * so they can be read from elsewhere.
+ */
+public final class SessionCompressionStrategy implements CompressionStrategy {
+    private static final long ADJUST_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final CompressionPolicy policy;
+    private final ZlibCompression zlib = new ZlibCompression(Zlib.RAW);
+    private final BatchCompression snappy = new SnappyCompression();
+    private final BatchCompression none = new NoopCompression();
+    private final BatchCompression measured;
+
+    @Getter
+    private volatile CompressionSettings settings;
+
+    @Getter
+    private volatile long uncompressedBytes;
+    @Getter
+    private volatile long compressedBytes;
+    /**
+     * The time spent compressing, in nanoseconds.
+     */
+    @Getter
+    private volatile long compressionNanos;
+
+    private long lastAdjustment = System.nanoTime();
+    private long uncompressedAtLastAdjustment;
+    private long compressedAtLastAdjustment;
+    private long nanosAtLastAdjustment;
+
+    public SessionCompressionStrategy(CompressionPolicy policy, CompressionSettings settings) {
+        this.policy = policy;
+        this.settings = settings;
+        this.zlib.setLevel(settings.level());
+        this.measured = new MeasuredCompression(settings.algorithm() == PacketCompressionAlgorithm.SNAPPY ? snappy : zlib);
+    }
+
+    /**
+     * @return the compressed size of everything sent so far compared to its uncompressed size, or 1 if nothing was sent
+     */
+    public double compressionRatio() {
+        long uncompressed = uncompressedBytes;
+        return uncompressed == 0 ? 1 : (double) compressedBytes / uncompressed;
+    }
+
+    @Override
+    public BatchCompression getCompression(BedrockBatchWrapper wrapper) {
+        ByteBuf uncompressed = wrapper.getUncompressed();
+        if (uncompressed != null && uncompressed.readableBytes() < settings.threshold()) {
+            return none;
+        }
+        return measured;
+    }
+
+    @Override
+    public BatchCompression getCompression(CompressionAlgorithm algorithm) {
+        if (algorithm == PacketCompressionAlgorithm.ZLIB) {
+            return zlib;
+        }
+        if (algorithm == PacketCompressionAlgorithm.SNAPPY) {
+            return snappy;
+        }
+        return none;
+    }
+
+    @Override
+    public BatchCompression getDefaultCompression() {
+        return measured;
+    }
+
+    private void record(int uncompressed, int compressed, long nanos) {
+        // Single writer, so these don't need to be atomic
+        uncompressedBytes += uncompressed;
+        compressedBytes += compressed;
+        compressionNanos += nanos;
+
+        long now = System.nanoTime();
+        long elapsed = now - lastAdjustment;
+        if (elapsed < ADJUST_INTERVAL_NANOS) {
+            return;
+        }
+
+        CompressionSample sample = new CompressionSample(uncompressedBytes - uncompressedAtLastAdjustment,
+            compressedBytes - compressedAtLastAdjustment, compressionNanos - nanosAtLastAdjustment, elapsed);
+        lastAdjustment = now;
+        uncompressedAtLastAdjustment = uncompressedBytes;
+        compressedAtLastAdjustment = compressedBytes;
+        nanosAtLastAdjustment = compressionNanos;
+
+        CompressionSettings current = settings;
+        CompressionSettings adjusted = policy.adjust(current, sample);
+        if (adjusted.level() != current.level() || adjusted.threshold() != current.threshold()) {
+            // The client has already been told which algorithm to expect
+            settings = new CompressionSettings(current.algorithm(), adjusted.level(), adjusted.threshold());
+            zlib.setLevel(adjusted.level());
+        }
+    }
+
+    private final class MeasuredCompression implements BatchCompression {
+        private final BatchCompression delegate;
+
+        MeasuredCompression(BatchCompression delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ByteBuf encode(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
+            int uncompressed = msg.readableBytes();
+            long start = System.nanoTime();
+            ByteBuf compressed = delegate.encode(ctx, msg);
+            record(uncompressed, compressed.readableBytes(), System.nanoTime() - start);
+            return compressed;
+        }
+
+        @Override
+        public ByteBuf decode(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
+            return delegate.decode(ctx, msg);
+        }
+
+        @Override
+        public CompressionAlgorithm getAlgorithm() {
+            return delegate.getAlgorithm();
+        }
+
+        @Override
+        public void setLevel(int level) {
+            delegate.setLevel(level);
+        }
+
+        @Override
+        public int getLevel() {
+            return delegate.getLevel();
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.Clientbound
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundChunkBatchStartPacket;
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundLightUpdatePacket;
 import io.netty.channel.EventLoop;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.erosion.ErosionCancellationException;
 import org.geysermc.geyser.registry.loader.RegistryLoaders;
@@ -53,20 +54,45 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
         IGNORED_PACKETS.add(ServerboundDiagnosticsPacket.class); // spammy
     }
 
+    private static final Dispatch NO_TRANSLATOR = new Dispatch(null, false);
+
+    /**
+     * Resolved translator for each packet class, so the hot path doesn't need to hash or call
+     * {@link PacketTranslator#shouldExecuteInEventLoop()} for every packet.
+     */
+    private final ClassValue<Dispatch> dispatch = new ClassValue<>() {
+        @Override
+        protected Dispatch computeValue(Class<?> type) {
+            PacketTranslator<? extends T> translator = mappings.get(type);
+            if (translator == null) {
+                return NO_TRANSLATOR;
+            }
+            return new Dispatch(translator, translator.shouldExecuteInEventLoop());
+        }
+    };
+
     protected PacketTranslatorRegistry() {
         super(null, RegistryLoaders.empty(IdentityHashMap::new));
     }
 
+    @Override
+    public PacketTranslator<? extends T> register(Class<? extends T> key, PacketTranslator<? extends T> value) {
+        PacketTranslator<? extends T> previous = super.register(key, value);
+        this.dispatch.remove(key);
+        return previous;
+    }
+
     @SuppressWarnings("unchecked")
     public <P extends T> boolean translate(Class<? extends P> clazz, P packet, GeyserSession session, boolean canRunImmediately) {
         if (session.getUpstream().isClosed() || session.isClosed()) {
             return false;
         }
 
-        PacketTranslator<P> translator = (PacketTranslator<P>) this.mappings.get(clazz);
+        Dispatch dispatch = this.dispatch.get(clazz);
+        PacketTranslator<P> translator = (PacketTranslator<P>) dispatch.translator();
         if (translator != null) {
             EventLoop eventLoop = session.getTickEventLoop();
-            if (canRunImmediately || !translator.shouldExecuteInEventLoop() || eventLoop.inEventLoop()) {
+            if (canRunImmediately || !dispatch.executeInEventLoop() || eventLoop.inEventLoop()) {
                 translate0(session, translator, packet);
             } else {
                 eventLoop.execute(() -> translate0(session, translator, packet));
@@ -101,4 +127,7 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
     public static <T> PacketTranslatorRegistry<T> create() {
         return new PacketTranslatorRegistry<>();
     }
+
+    private record Dispatch(@Nullable PacketTranslator<?> translator, boolean executeInEventLoop) {
+    }
 }
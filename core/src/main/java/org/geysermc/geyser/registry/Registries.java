@@ -65,12 +65,14 @@ import org.geysermc.geyser.registry.populator.TagRegistryPopulator;
 import org.geysermc.geyser.registry.provider.ProviderSupplier;
 import org.geysermc.geyser.registry.type.ItemMappings;
 import org.geysermc.geyser.registry.type.ParticleMapping;
+import org.geysermc.geyser.registry.type.ResolvedSound;
 import org.geysermc.geyser.registry.type.SoundMapping;
 import org.geysermc.geyser.registry.type.UtilMappings;
 import org.geysermc.geyser.translator.level.block.entity.BlockEntityTranslator;
 import org.geysermc.geyser.translator.level.event.LevelEventTranslator;
 import org.geysermc.geyser.translator.sound.SoundInteractionTranslator;
 import org.geysermc.geyser.translator.sound.SoundTranslator;
+import org.geysermc.geyser.util.SoundUtils;
 import org.geysermc.mcprotocollib.network.packet.Packet;
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
 import org.geysermc.mcprotocollib.protocol.data.game.level.block.BlockEntityType;
@@ -195,6 +197,11 @@ public final class Registries {
      */
     public static final SimpleMappedDeferredRegistry<String, SoundMapping> SOUNDS = SimpleMappedDeferredRegistry.create("mappings/sounds.json", SoundRegistryLoader::new);
 
+    /**
+     * An array registry holding every Java builtin sound, by ordinal, resolved to how it is played for Bedrock.
+     */
+    public static final ArrayRegistry<ResolvedSound> BUILTIN_SOUNDS = ArrayRegistry.create(RegistryLoaders.empty(() -> new ResolvedSound[0]));
+
     /**
      * A mapped registry holding {@link LevelEvent}s to their corresponding {@link LevelEventTranslator}.
      */
@@ -269,6 +276,9 @@ public final class Registries {
         // potion mixes depend on other registries
         POTION_MIXES.load();
 
+        // needs the sound mappings and the Java block states
+        BUILTIN_SOUNDS.set(SoundUtils.resolveBuiltinSounds());
+
         // Remove unneeded client generation data from NbtMapBuilder
         NbtMapBuilder biomesNbt = NbtMap.builder();
         for (Map.Entry<String, Object> entry : BIOMES_NBT.get().entrySet()) {
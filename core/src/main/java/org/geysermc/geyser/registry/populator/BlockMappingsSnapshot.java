@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.registry.populator;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Remembers which Bedrock block state each Java block state maps to in every palette, so the next startup doesn't have
+ * to convert every Java block state to Bedrock NBT and look it up in the palette again.
+ * <p>
+ * Each palette is stored with a hash of everything its mappings were derived from: the Geyser build, the Java block
+ * mappings and block states, the Bedrock palette and any custom block states. A palette whose inputs changed is derived
+ * as usual. Builds from an IDE all share the same version, so code changes can't be detected and the snapshot isn't used.
+ */
+final class BlockMappingsSnapshot {
+    private static final int MAGIC = 0x47534D53; // GSMS
+    private static final int FORMAT_VERSION = 1;
+
+    private final @Nullable Path file;
+    private final Int2ObjectMap<Entry> entries = new Int2ObjectOpenHashMap<>();
+    private boolean changed;
+
+    private BlockMappingsSnapshot(@Nullable Path file) {
+        this.file = file;
+    }
+
+    /**
+     * @return the snapshot, or a snapshot that never has anything if caching mappings is disabled or this is a
+     * development build
+     */
+    static BlockMappingsSnapshot load() {
+        GeyserImpl geyser = GeyserImpl.getInstance();
+        if (!geyser.config().advanced().cacheMappings() || !geyser.isProductionEnvironment()) {
+            return new BlockMappingsSnapshot(null);
+        }
+
+        BlockMappingsSnapshot snapshot = new BlockMappingsSnapshot(geyser.getBootstrap().getConfigFolder().resolve("cache").resolve("block_mappings.bin"));
+        if (Files.exists(snapshot.file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot.file)))) {
+                if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                    return snapshot;
+                }
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    int protocolVersion = in.readInt();
+                    byte[] hash = new byte[in.readInt()];
+                    in.readFully(hash);
+                    int[] runtimeIds = new int[in.readInt()];
+                    for (int j = 0; j < runtimeIds.length; j++) {
+                        runtimeIds[j] = in.readInt();
+                    }
+                    snapshot.entries.put(protocolVersion, new Entry(hash, runtimeIds));
+                }
+            } catch (IOException e) {
+                geyser.getLogger().debug("Unable to read the block mappings snapshot, rebuilding it: " + e);
+                snapshot.entries.clear();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * @param hash the hash of the inputs the mappings would be derived from now
+     * @return the Bedrock runtime ID of each Java block state, with -1 for states without a vanilla Bedrock state,
+     * or null if the snapshot doesn't have this palette or its inputs have changed
+     */
+    synchronized int @Nullable [] vanillaRuntimeIds(int protocolVersion, byte[] hash) {
+        Entry entry = entries.get(protocolVersion);
+        if (entry == null || !Arrays.equals(entry.hash, hash)) {
+            return null;
+        }
+        return entry.runtimeIds;
+    }
+
+    synchronized void put(int protocolVersion, byte[] hash, int[] runtimeIds) {
+        if (file == null) {
+            return;
+        }
+        entries.put(protocolVersion, new Entry(hash, runtimeIds));
+        changed = true;
+    }
+
+    /**
+     * Writes the snapshot to disk, if any palette had to be derived again.
+     */
+    synchronized void save() {
+        if (file == null || !changed) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(entries.size());
+                for (Int2ObjectMap.Entry<Entry> entry : entries.int2ObjectEntrySet()) {
+                    out.writeInt(entry.getIntKey());
+                    out.writeInt(entry.getValue().hash.length);
+                    out.write(entry.getValue().hash);
+                    int[] runtimeIds = entry.getValue().runtimeIds;
+                    out.writeInt(runtimeIds.length);
+                    for (int runtimeId : runtimeIds) {
+                        out.writeInt(runtimeId);
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            changed = false;
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().debug("Unable to save the block mappings snapshot: " + e);
+        }
+    }
+
+    static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA-256 is required to be supported", e);
+        }
+    }
+
+    private record Entry(byte[] hash, int[] runtimeIds) {
+    }
+}
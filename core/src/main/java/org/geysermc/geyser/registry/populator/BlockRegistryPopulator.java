@@ -59,6 +59,7 @@ import org.geysermc.geyser.level.block.property.Properties;
 import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.level.block.type.BlockState;
 import org.geysermc.geyser.level.block.type.FlowerPotBlock;
+import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.populator.conversion.ChaosCubedConverter;
 import org.geysermc.geyser.registry.populator.conversion.GoldenDandelionConverter;
@@ -66,9 +67,11 @@ import org.geysermc.geyser.registry.type.BlockMappings;
 import org.geysermc.geyser.registry.type.GeyserBedrockBlock;
 import org.geysermc.geyser.util.JsonUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
@@ -113,15 +116,20 @@ public final class BlockRegistryPopulator {
      * Stores the raw blocks NBT until it is no longer needed.
      */
     private static List<NbtMap> BLOCKS_NBT;
+    /**
+     * The hash of the Java block mappings and block states, used to check if the block mappings snapshot is still valid.
+     */
+    private static byte[] BLOCKS_NBT_HASH;
     public static int MIN_CUSTOM_RUNTIME_ID = -1;
     public static int JAVA_BLOCKS_SIZE = -1;
 
     private static void nullifyBlocksNbt() {
         BLOCKS_NBT = null;
+        BLOCKS_NBT_HASH = null;
     }
 
     private static void registerBedrockBlocks() {
-        var blockMappers = ImmutableMap.<ObjectIntPair<String>, Remapper>builder()
+        var allBlockMappers = ImmutableMap.<ObjectIntPair<String>, Remapper>builder()
                 .put(ObjectIntPair.of("26_0", Bedrock_v924.CODEC.getProtocolVersion()), GoldenDandelionConverter::convertBlock)
                 .put(ObjectIntPair.of("26_10", Bedrock_v944.CODEC.getProtocolVersion()), ChaosCubedConverter::convertBlock)
                 .put(ObjectIntPair.of("26_20", Bedrock_v975.CODEC.getProtocolVersion()), ChaosCubedConverter::convertBlock)
@@ -129,293 +137,357 @@ public final class BlockRegistryPopulator {
                 .put(ObjectIntPair.of("26_40", Bedrock_v2168.CODEC.getProtocolVersion()), tag -> tag)
             .build();
 
+        // Only build the mappings of the Bedrock versions that can join
+        List<Map.Entry<ObjectIntPair<String>, Remapper>> blockMappers = allBlockMappers.entrySet().stream()
+            .filter(entry -> GameProtocol.SUPPORTED_BEDROCK_PROTOCOLS.contains(entry.getKey().valueInt()))
+            .toList();
+
         // We can keep this strong as nothing should be garbage collected
         // Safe to intern since Cloudburst NBT is immutable
         //noinspection UnstableApiUsage
         Interner<NbtMap> statesInterner = Interners.newStrongInterner();
 
-        for (ObjectIntPair<String> palette : blockMappers.keySet()) {
-            int protocolVersion = palette.valueInt();
-            List<NbtMap> vanillaBlockStates;
-            List<NbtMap> blockStates;
-            try (InputStream stream = GeyserImpl.getInstance().getBootstrap().getResourceOrThrow(String.format("bedrock/block_palette.%s.nbt", palette.key()));
-                NBTInputStream nbtInputStream = new NBTInputStream(new DataInputStream(new GZIPInputStream(stream)), true, true)) {
-                NbtMap blockPalette = (NbtMap) nbtInputStream.readTag();
-
-                vanillaBlockStates = new ArrayList<>(blockPalette.getList("blocks", NbtType.COMPOUND));
-                for (int i = 0; i < vanillaBlockStates.size(); i++) {
-                    NbtMapBuilder builder = vanillaBlockStates.get(i).toBuilder();
-                    builder.remove("version"); // Remove all nbt tags which are not needed for differentiating states
-                    builder.remove("name_hash"); // Quick workaround - was added in 1.19.20
-                    builder.remove("network_id"); // Added in 1.19.80
-                    builder.remove("block_id"); // Added in 1.20.60
-                    //noinspection UnstableApiUsage
-                    builder.putCompound("states", statesInterner.intern((NbtMap) builder.remove("states")));
-                    vanillaBlockStates.set(i, builder.build());
-                }
-
-                blockStates = new ArrayList<>(vanillaBlockStates);
-            } catch (Exception e) {
-                throw new AssertionError("Unable to get blocks from runtime block states", e);
+        // Custom blocks are the same in every palette, so only generate their states once
+        List<BlockPropertyData> customBlockProperties = new ArrayList<>();
+        List<NbtMap> customBlockStates = new ArrayList<>();
+        List<CustomBlockState> customExtBlockStates = new ArrayList<>();
+        if (BlockRegistries.CUSTOM_BLOCKS.get().length != 0) {
+            CustomBlockRegistryPopulator.BLOCK_ID.set(CustomBlockRegistryPopulator.START_OFFSET);
+            for (CustomBlockData customBlock : BlockRegistries.CUSTOM_BLOCKS.get()) {
+                customBlockProperties.add(CustomBlockRegistryPopulator.generateBlockPropertyData(customBlock));
+                CustomBlockRegistryPopulator.generateCustomBlockStates(customBlock, customBlockStates, customExtBlockStates);
             }
+            GeyserImpl.getInstance().getLogger().debug("Added " + customBlockStates.size() + " custom block states to the Bedrock palettes.");
+        }
 
-            List<BlockPropertyData> customBlockProperties = new ArrayList<>();
-            List<NbtMap> customBlockStates = new ArrayList<>();
-            List<CustomBlockState> customExtBlockStates = new ArrayList<>();
-            int[] remappedVanillaIds = new int[0];
-            if (BlockRegistries.CUSTOM_BLOCKS.get().length != 0) {
-                CustomBlockRegistryPopulator.BLOCK_ID.set(CustomBlockRegistryPopulator.START_OFFSET);
-                for (CustomBlockData customBlock : BlockRegistries.CUSTOM_BLOCKS.get()) {
-                    customBlockProperties.add(CustomBlockRegistryPopulator.generateBlockPropertyData(customBlock));
-                    CustomBlockRegistryPopulator.generateCustomBlockStates(customBlock, customBlockStates, customExtBlockStates);
-                }
-                blockStates.addAll(customBlockStates);
-                GeyserImpl.getInstance().getLogger().debug("Added " + customBlockStates.size() + " custom block states to v" + protocolVersion + " palette.");
+        // Stream isn't ideal.
+        List<Block> javaPottable = BlockRegistries.JAVA_BLOCKS.get()
+                .parallelStream()
+                .flatMap(block -> {
+                    if (block instanceof FlowerPotBlock flowerPot && flowerPot.flower() != Blocks.AIR) {
+                        return Stream.of(flowerPot.flower());
+                    }
+                    return null;
+                })
+                .toList();
+
+        MessageDigest commonDigest = BlockMappingsSnapshot.digest();
+        commonDigest.update(GeyserImpl.GIT_VERSION.getBytes(StandardCharsets.UTF_8));
+        commonDigest.update(BLOCKS_NBT_HASH);
+        commonDigest.update(customBlockStates.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] commonInputsHash = commonDigest.digest();
+        BlockMappingsSnapshot snapshot = BlockMappingsSnapshot.load();
+
+        // Every palette is independent of the others, so they are built at the same time
+        List<PaletteMappings> paletteMappings = blockMappers.parallelStream()
+            .map(entry -> buildMappings(entry.getKey().key(), entry.getKey().valueInt(), entry.getValue(), statesInterner,
+                customBlockProperties, customBlockStates, customExtBlockStates, javaPottable, snapshot, commonInputsHash))
+            .toList();
+        snapshot.save();
+
+        for (PaletteMappings mappings : paletteMappings) {
+            BlockRegistries.WATERLOGGED.get().or(mappings.waterlogged());
+            BlockRegistries.BLOCKS.register(mappings.protocolVersion(), mappings.mappings());
+        }
+    }
 
-                // The palette is sorted by the FNV1 64-bit hash of the name
-                blockStates.sort((a, b) -> Long.compareUnsigned(fnv164(a.getString("name")), fnv164(b.getString("name"))));
+    private static PaletteMappings buildMappings(String paletteVersion, int protocolVersion, Remapper stateMapper, Interner<NbtMap> statesInterner,
+                                                 List<BlockPropertyData> customBlockProperties, List<NbtMap> customBlockStates,
+                                                 List<CustomBlockState> customExtBlockStates, List<Block> javaPottable,
+                                                 BlockMappingsSnapshot snapshot, byte[] commonInputsHash) {
+        byte[] paletteBytes;
+        try (InputStream stream = GeyserImpl.getInstance().getBootstrap().getResourceOrThrow(String.format("bedrock/block_palette.%s.nbt", paletteVersion))) {
+            paletteBytes = stream.readAllBytes();
+        } catch (Exception e) {
+            throw new AssertionError("Unable to get blocks from runtime block states", e);
+        }
+        MessageDigest digest = BlockMappingsSnapshot.digest();
+        digest.update(commonInputsHash);
+        digest.update(paletteBytes);
+        byte[] inputsHash = digest.digest();
+
+        List<NbtMap> vanillaBlockStates;
+        List<NbtMap> blockStates;
+        try (NBTInputStream nbtInputStream = new NBTInputStream(new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(paletteBytes))), true, true)) {
+            NbtMap blockPalette = (NbtMap) nbtInputStream.readTag();
+
+            vanillaBlockStates = new ArrayList<>(blockPalette.getList("blocks", NbtType.COMPOUND));
+            for (int i = 0; i < vanillaBlockStates.size(); i++) {
+                NbtMapBuilder builder = vanillaBlockStates.get(i).toBuilder();
+                builder.remove("version"); // Remove all nbt tags which are not needed for differentiating states
+                builder.remove("name_hash"); // Quick workaround - was added in 1.19.20
+                builder.remove("network_id"); // Added in 1.19.80
+                builder.remove("block_id"); // Added in 1.20.60
+                //noinspection UnstableApiUsage
+                builder.putCompound("states", statesInterner.intern((NbtMap) builder.remove("states")));
+                vanillaBlockStates.set(i, builder.build());
             }
 
-            // New since 1.16.100 - find the block runtime ID by the order given to us in the block palette,
-            // as we no longer send a block palette
-            Object2ObjectMap<NbtMap, GeyserBedrockBlock> blockStateOrderedMap = new Object2ObjectOpenHashMap<>(blockStates.size());
-            GeyserBedrockBlock[] bedrockRuntimeMap = new GeyserBedrockBlock[blockStates.size()];
-            for (int i = 0; i < blockStates.size(); i++) {
-                NbtMap tag = blockStates.get(i);
-                GeyserBedrockBlock block = new GeyserBedrockBlock(i, tag);
-                if (blockStateOrderedMap.put(tag, block) != null) {
-                    throw new AssertionError("Duplicate block states in Bedrock palette: " + tag);
-                }
-                bedrockRuntimeMap[i] = block;
+            blockStates = new ArrayList<>(vanillaBlockStates);
+        } catch (Exception e) {
+            throw new AssertionError("Unable to get blocks from runtime block states", e);
+        }
+
+        int[] remappedVanillaIds = new int[0];
+        if (BlockRegistries.CUSTOM_BLOCKS.get().length != 0) {
+            blockStates.addAll(customBlockStates);
+
+            // The palette is sorted by the FNV1 64-bit hash of the name
+            blockStates.sort((a, b) -> Long.compareUnsigned(fnv164(a.getString("name")), fnv164(b.getString("name"))));
+        }
+
+        // New since 1.16.100 - find the block runtime ID by the order given to us in the block palette,
+        // as we no longer send a block palette
+        Object2ObjectMap<NbtMap, GeyserBedrockBlock> blockStateOrderedMap = new Object2ObjectOpenHashMap<>(blockStates.size());
+        GeyserBedrockBlock[] bedrockRuntimeMap = new GeyserBedrockBlock[blockStates.size()];
+        for (int i = 0; i < blockStates.size(); i++) {
+            NbtMap tag = blockStates.get(i);
+            GeyserBedrockBlock block = new GeyserBedrockBlock(i, tag);
+            if (blockStateOrderedMap.put(tag, block) != null) {
+                throw new AssertionError("Duplicate block states in Bedrock palette: " + tag);
             }
+            bedrockRuntimeMap[i] = block;
+        }
 
-            Object2ObjectMap<CustomBlockState, GeyserBedrockBlock> customBlockStateDefinitions = Object2ObjectMaps.emptyMap();
-            if (BlockRegistries.CUSTOM_BLOCKS.get().length != 0) {
-                customBlockStateDefinitions = new Object2ObjectOpenHashMap<>(customExtBlockStates.size());
-                for (int i = 0; i < customExtBlockStates.size(); i++) {
-                    NbtMap tag = customBlockStates.get(i);
-                    CustomBlockState blockState = customExtBlockStates.get(i);
-                    GeyserBedrockBlock bedrockBlock = blockStateOrderedMap.get(tag);
-                    customBlockStateDefinitions.put(blockState, bedrockBlock);
-                }
+        Object2ObjectMap<CustomBlockState, GeyserBedrockBlock> customBlockStateDefinitions = Object2ObjectMaps.emptyMap();
+        if (BlockRegistries.CUSTOM_BLOCKS.get().length != 0) {
+            customBlockStateDefinitions = new Object2ObjectOpenHashMap<>(customExtBlockStates.size());
+            for (int i = 0; i < customExtBlockStates.size(); i++) {
+                NbtMap tag = customBlockStates.get(i);
+                CustomBlockState blockState = customExtBlockStates.get(i);
+                GeyserBedrockBlock bedrockBlock = blockStateOrderedMap.get(tag);
+                customBlockStateDefinitions.put(blockState, bedrockBlock);
+            }
 
-                remappedVanillaIds = new int[vanillaBlockStates.size()];
-                for (int i = 0; i < vanillaBlockStates.size(); i++) {
-                    GeyserBedrockBlock bedrockBlock = blockStateOrderedMap.get(vanillaBlockStates.get(i));
-                    remappedVanillaIds[i] = bedrockBlock != null ? bedrockBlock.getRuntimeId() : -1;
-                }
+            remappedVanillaIds = new int[vanillaBlockStates.size()];
+            for (int i = 0; i < vanillaBlockStates.size(); i++) {
+                GeyserBedrockBlock bedrockBlock = blockStateOrderedMap.get(vanillaBlockStates.get(i));
+                remappedVanillaIds[i] = bedrockBlock != null ? bedrockBlock.getRuntimeId() : -1;
             }
+        }
 
-            int javaRuntimeId = -1;
-
-            List<BlockState> javaBlockStates = BlockRegistries.BLOCK_STATES.get();
-
-            GeyserBedrockBlock airDefinition = null;
-            BlockDefinition commandBlockDefinition = null;
-            BlockDefinition mobSpawnerBlockDefinition = null;
-            BlockDefinition netherPortalBlockDefinition = null;
-            BlockDefinition waterDefinition = null;
-            BlockDefinition movingBlockDefinition = null;
-            Iterator<NbtMap> blocksIterator = BLOCKS_NBT.iterator();
-
-            Remapper stateMapper = blockMappers.get(palette);
-
-            GeyserBedrockBlock[] javaToBedrockBlocks = new GeyserBedrockBlock[JAVA_BLOCKS_SIZE];
-            GeyserBedrockBlock[] javaToVanillaBedrockBlocks = new GeyserBedrockBlock[JAVA_BLOCKS_SIZE];
-
-            var javaToBedrockIdentifiers = new Int2ObjectOpenHashMap<String>();
-            Block lastBlockSeen = null;
-
-            // Stream isn't ideal.
-            List<Block> javaPottable = BlockRegistries.JAVA_BLOCKS.get()
-                    .parallelStream()
-                    .flatMap(block -> {
-                        if (block instanceof FlowerPotBlock flowerPot && flowerPot.flower() != Blocks.AIR) {
-                            return Stream.of(flowerPot.flower());
-                        }
-                        return null;
-                    })
-                    .toList();
-            Map<Block, NbtMap> flowerPotBlocks = new Object2ObjectOpenHashMap<>();
-            Map<NbtMap, BlockDefinition> itemFrames = new Object2ObjectOpenHashMap<>();
-            IntArrayList collisionIgnoredBlocks = new IntArrayList();
-
-            Set<BlockDefinition> jigsawDefinitions = new ObjectOpenHashSet<>();
-            Map<String, BlockDefinition> structureBlockDefinitions = new Object2ObjectOpenHashMap<>();
-
-            BlockMappings.BlockMappingsBuilder builder = BlockMappings.builder();
-            while (blocksIterator.hasNext()) {
-                javaRuntimeId++;
-                NbtMap entry = blocksIterator.next();
-                BlockState blockState = javaBlockStates.get(javaRuntimeId);
-                String javaId = blockState.toString();
-
-                NbtMap originalBedrockTag = buildBedrockState(blockState, entry);
-                NbtMap bedrockTag = stateMapper.remap(originalBedrockTag);
-
-                GeyserBedrockBlock vanillaBedrockDefinition = blockStateOrderedMap.get(bedrockTag);
-
-                GeyserBedrockBlock bedrockDefinition;
-                CustomBlockState blockStateOverride = BlockRegistries.CUSTOM_BLOCK_STATE_OVERRIDES.get(javaRuntimeId);
-                if (blockStateOverride == null) {
-                    bedrockDefinition = vanillaBedrockDefinition;
-                    if (bedrockDefinition == null) {
-                        throw new RuntimeException("""
-                            Unable to find %s Bedrock runtime ID for %s! Original block tag:
-                            %s
-                            Updated block tag:
-                            %s""".formatted(javaId, palette.key(), originalBedrockTag, bedrockTag));
-                    }
-                } else {
-                    bedrockDefinition = customBlockStateDefinitions.get(blockStateOverride);
-                    if (bedrockDefinition == null) {
-                        throw new RuntimeException("Unable to find " + javaId + " Bedrock runtime ID! Custom block override: \n" +
-                            blockStateOverride);
-                    }
-                }
+        int javaRuntimeId = -1;
 
-                switch (javaId) {
-                    case "minecraft:air" -> airDefinition = bedrockDefinition;
-                    case "minecraft:water[level=0]" -> waterDefinition = bedrockDefinition;
-                    case "minecraft:command_block[conditional=false,facing=north]" -> commandBlockDefinition = bedrockDefinition;
-                    case "minecraft:spawner" -> mobSpawnerBlockDefinition = bedrockDefinition;
-                    case "minecraft:moving_piston[facing=north,type=normal]" -> movingBlockDefinition = bedrockDefinition;
-                }
+        List<BlockState> javaBlockStates = BlockRegistries.BLOCK_STATES.get();
 
-                Block block = blockState.block();
-                if (block != lastBlockSeen) {
-                    lastBlockSeen = block;
-                    String bedrockName = bedrockDefinition.getState().getString("name");
-                    if (!block.javaIdentifier().toString().equals(bedrockName)) {
-                        javaToBedrockIdentifiers.put(block.javaId(), bedrockName.substring("minecraft:".length()).intern());
-                    }
-                }
+        GeyserBedrockBlock airDefinition = null;
+        BlockDefinition commandBlockDefinition = null;
+        BlockDefinition mobSpawnerBlockDefinition = null;
+        BlockDefinition netherPortalBlockDefinition = null;
+        BlockDefinition waterDefinition = null;
+        BlockDefinition movingBlockDefinition = null;
+        Iterator<NbtMap> blocksIterator = BLOCKS_NBT.iterator();
 
-                if (block == Blocks.JIGSAW) {
-                    jigsawDefinitions.add(bedrockDefinition);
-                }
+        GeyserBedrockBlock[] javaToBedrockBlocks = new GeyserBedrockBlock[JAVA_BLOCKS_SIZE];
+        GeyserBedrockBlock[] javaToVanillaBedrockBlocks = new GeyserBedrockBlock[JAVA_BLOCKS_SIZE];
 
-                if (block == Blocks.STRUCTURE_BLOCK) {
-                    String mode = blockState.getValue(Properties.STRUCTUREBLOCK_MODE);
-                    structureBlockDefinitions.put(mode.toUpperCase(Locale.ROOT), bedrockDefinition);
-                }
+        var javaToBedrockIdentifiers = new Int2ObjectOpenHashMap<String>();
+        Block lastBlockSeen = null;
 
-                if (block == Blocks.NETHER_PORTAL) {
-                    netherPortalBlockDefinition = bedrockDefinition;
-                }
+        Map<Block, NbtMap> flowerPotBlocks = new Object2ObjectOpenHashMap<>();
+        Map<NbtMap, BlockDefinition> itemFrames = new Object2ObjectOpenHashMap<>();
+        IntArrayList collisionIgnoredBlocks = new IntArrayList();
+        // Merged into the registry afterward, as BitSets can't be written to from multiple threads
+        BitSet waterloggedStates = new BitSet();
 
-                if (block == Blocks.BAMBOO || block == Blocks.POINTED_DRIPSTONE) {
-                    collisionIgnoredBlocks.add(javaRuntimeId);
-                }
+        Set<BlockDefinition> jigsawDefinitions = new ObjectOpenHashSet<>();
+        Map<String, BlockDefinition> structureBlockDefinitions = new Object2ObjectOpenHashMap<>();
 
-                boolean waterlogged = blockState.getValue(Properties.WATERLOGGED, false)
-                        || block == Blocks.BUBBLE_COLUMN || block == Blocks.KELP || block == Blocks.KELP_PLANT
-                        || block == Blocks.SEAGRASS || block == Blocks.TALL_SEAGRASS;
+        // Converting every Java state to Bedrock NBT and looking it up is the slowest part, so skip it if possible
+        int[] snapshotRuntimeIds = snapshot.vanillaRuntimeIds(protocolVersion, inputsHash);
+        if (snapshotRuntimeIds != null && snapshotRuntimeIds.length != JAVA_BLOCKS_SIZE) {
+            snapshotRuntimeIds = null;
+        }
+        int[] vanillaRuntimeIds = snapshotRuntimeIds == null ? new int[JAVA_BLOCKS_SIZE] : null;
 
-                if (waterlogged) {
-                    BlockRegistries.WATERLOGGED.get().set(javaRuntimeId);
-                }
+        BlockMappings.BlockMappingsBuilder builder = BlockMappings.builder();
+        while (blocksIterator.hasNext()) {
+            javaRuntimeId++;
+            NbtMap entry = blocksIterator.next();
+            BlockState blockState = javaBlockStates.get(javaRuntimeId);
+            String javaId = blockState.toString();
+
+            GeyserBedrockBlock vanillaBedrockDefinition;
+            if (snapshotRuntimeIds != null) {
+                int runtimeId = snapshotRuntimeIds[javaRuntimeId];
+                vanillaBedrockDefinition = runtimeId == -1 ? null : bedrockRuntimeMap[runtimeId];
+            } else {
+                vanillaBedrockDefinition = blockStateOrderedMap.get(stateMapper.remap(buildBedrockState(blockState, entry)));
+                vanillaRuntimeIds[javaRuntimeId] = vanillaBedrockDefinition == null ? -1 : vanillaBedrockDefinition.getRuntimeId();
+            }
 
-                // Get the tag needed for non-empty flower pots
-                if (javaPottable.contains(block)) {
-                    // Specifically NOT putIfAbsent - mangrove propagule breaks otherwise
-                    flowerPotBlocks.put(block, blockStates.get(bedrockDefinition.getRuntimeId()));
+            GeyserBedrockBlock bedrockDefinition;
+            CustomBlockState blockStateOverride = BlockRegistries.CUSTOM_BLOCK_STATE_OVERRIDES.get(javaRuntimeId);
+            if (blockStateOverride == null) {
+                bedrockDefinition = vanillaBedrockDefinition;
+                if (bedrockDefinition == null) {
+                    NbtMap originalBedrockTag = buildBedrockState(blockState, entry);
+                    NbtMap bedrockTag = stateMapper.remap(originalBedrockTag);
+                    throw new RuntimeException("""
+                        Unable to find %s Bedrock runtime ID for %s! Original block tag:
+                        %s
+                        Updated block tag:
+                        %s""".formatted(javaId, paletteVersion, originalBedrockTag, bedrockTag));
                 }
+            } else {
+                bedrockDefinition = customBlockStateDefinitions.get(blockStateOverride);
+                if (bedrockDefinition == null) {
+                    throw new RuntimeException("Unable to find " + javaId + " Bedrock runtime ID! Custom block override: \n" +
+                        blockStateOverride);
+                }
+            }
 
-                javaToVanillaBedrockBlocks[javaRuntimeId] = vanillaBedrockDefinition;
-                javaToBedrockBlocks[javaRuntimeId] = bedrockDefinition;
+            switch (javaId) {
+                case "minecraft:air" -> airDefinition = bedrockDefinition;
+                case "minecraft:water[level=0]" -> waterDefinition = bedrockDefinition;
+                case "minecraft:command_block[conditional=false,facing=north]" -> commandBlockDefinition = bedrockDefinition;
+                case "minecraft:spawner" -> mobSpawnerBlockDefinition = bedrockDefinition;
+                case "minecraft:moving_piston[facing=north,type=normal]" -> movingBlockDefinition = bedrockDefinition;
             }
 
-            builder.collisionIgnoredBlocks(collisionIgnoredBlocks);
+            Block block = blockState.block();
+            if (block != lastBlockSeen) {
+                lastBlockSeen = block;
+                String bedrockName = bedrockDefinition.getState().getString("name");
+                if (!block.javaIdentifier().toString().equals(bedrockName)) {
+                    javaToBedrockIdentifiers.put(block.javaId(), bedrockName.substring("minecraft:".length()).intern());
+                }
+            }
 
-            if (commandBlockDefinition == null) {
-                throw new AssertionError("Unable to find command block in palette");
+            if (block == Blocks.JIGSAW) {
+                jigsawDefinitions.add(bedrockDefinition);
             }
-            builder.commandBlock(commandBlockDefinition);
 
-            if (mobSpawnerBlockDefinition == null) {
-                throw new AssertionError("Unable to find mob spawner block in palette");
+            if (block == Blocks.STRUCTURE_BLOCK) {
+                String mode = blockState.getValue(Properties.STRUCTUREBLOCK_MODE);
+                structureBlockDefinitions.put(mode.toUpperCase(Locale.ROOT), bedrockDefinition);
             }
-            builder.mobSpawnerBlock(mobSpawnerBlockDefinition);
 
-            if (netherPortalBlockDefinition == null) {
-                throw new AssertionError("Unable to find nether portal block in palette");
+            if (block == Blocks.NETHER_PORTAL) {
+                netherPortalBlockDefinition = bedrockDefinition;
             }
-            builder.netherPortalBlock(netherPortalBlockDefinition);
 
-            if (waterDefinition  == null) {
-                throw new AssertionError("Unable to find water in palette");
+            if (block == Blocks.BAMBOO || block == Blocks.POINTED_DRIPSTONE) {
+                collisionIgnoredBlocks.add(javaRuntimeId);
             }
-            builder.bedrockWater(waterDefinition);
 
-            if (airDefinition  == null) {
-                throw new AssertionError("Unable to find air in palette");
+            boolean waterlogged = blockState.getValue(Properties.WATERLOGGED, false)
+                    || block == Blocks.BUBBLE_COLUMN || block == Blocks.KELP || block == Blocks.KELP_PLANT
+                    || block == Blocks.SEAGRASS || block == Blocks.TALL_SEAGRASS;
+
+            if (waterlogged) {
+                waterloggedStates.set(javaRuntimeId);
             }
-            builder.bedrockAir(airDefinition);
 
-            if (movingBlockDefinition  == null) {
-                throw new AssertionError("Unable to find moving block in palette");
+            // Get the tag needed for non-empty flower pots
+            if (javaPottable.contains(block)) {
+                // Specifically NOT putIfAbsent - mangrove propagule breaks otherwise
+                flowerPotBlocks.put(block, blockStates.get(bedrockDefinition.getRuntimeId()));
             }
-            builder.bedrockMovingBlock(movingBlockDefinition);
-
-            Map<JavaBlockState, CustomBlockState> nonVanillaStateOverrides = BlockRegistries.NON_VANILLA_BLOCK_STATE_OVERRIDES.get();
-            if (!nonVanillaStateOverrides.isEmpty()) {
-                // First ensure all non vanilla runtime IDs at minimum are air in case they aren't consecutive
-                Arrays.fill(javaToVanillaBedrockBlocks, MIN_CUSTOM_RUNTIME_ID, javaToVanillaBedrockBlocks.length, airDefinition);
-                Arrays.fill(javaToBedrockBlocks, MIN_CUSTOM_RUNTIME_ID, javaToBedrockBlocks.length, airDefinition);
-
-                for (Map.Entry<JavaBlockState, CustomBlockState> entry : nonVanillaStateOverrides.entrySet()) {
-                    GeyserBedrockBlock bedrockDefinition = customBlockStateDefinitions.get(entry.getValue());
-                    if (bedrockDefinition == null) {
-                        GeyserImpl.getInstance().getLogger().warning("Unable to find custom block for " + entry.getValue());
-                        continue;
-                    }
 
-                    JavaBlockState javaState = entry.getKey();
-                    int stateRuntimeId = javaState.javaId();
+            javaToVanillaBedrockBlocks[javaRuntimeId] = vanillaBedrockDefinition;
+            javaToBedrockBlocks[javaRuntimeId] = bedrockDefinition;
+        }
 
-                    boolean waterlogged = javaState.waterlogged();
+        builder.collisionIgnoredBlocks(collisionIgnoredBlocks);
 
-                    if (waterlogged) {
-                        BlockRegistries.WATERLOGGED.register(set -> set.set(stateRuntimeId));
-                    }
+        if (commandBlockDefinition == null) {
+            throw new AssertionError("Unable to find command block in palette");
+        }
+        builder.commandBlock(commandBlockDefinition);
+
+        if (mobSpawnerBlockDefinition == null) {
+            throw new AssertionError("Unable to find mob spawner block in palette");
+        }
+        builder.mobSpawnerBlock(mobSpawnerBlockDefinition);
+
+        if (netherPortalBlockDefinition == null) {
+            throw new AssertionError("Unable to find nether portal block in palette");
+        }
+        builder.netherPortalBlock(netherPortalBlockDefinition);
 
-                    javaToVanillaBedrockBlocks[stateRuntimeId] = bedrockDefinition; // TODO: Check this?
-                    javaToBedrockBlocks[stateRuntimeId] = bedrockDefinition;
-                    javaToBedrockIdentifiers.put(entry.getKey().stateGroupId(), entry.getValue().block().identifier());
+        if (waterDefinition  == null) {
+            throw new AssertionError("Unable to find water in palette");
+        }
+        builder.bedrockWater(waterDefinition);
+
+        if (airDefinition  == null) {
+            throw new AssertionError("Unable to find air in palette");
+        }
+        builder.bedrockAir(airDefinition);
+
+        if (movingBlockDefinition  == null) {
+            throw new AssertionError("Unable to find moving block in palette");
+        }
+        builder.bedrockMovingBlock(movingBlockDefinition);
+
+        Map<JavaBlockState, CustomBlockState> nonVanillaStateOverrides = BlockRegistries.NON_VANILLA_BLOCK_STATE_OVERRIDES.get();
+        if (!nonVanillaStateOverrides.isEmpty()) {
+            // First ensure all non vanilla runtime IDs at minimum are air in case they aren't consecutive
+            Arrays.fill(javaToVanillaBedrockBlocks, MIN_CUSTOM_RUNTIME_ID, javaToVanillaBedrockBlocks.length, airDefinition);
+            Arrays.fill(javaToBedrockBlocks, MIN_CUSTOM_RUNTIME_ID, javaToBedrockBlocks.length, airDefinition);
+
+            for (Map.Entry<JavaBlockState, CustomBlockState> entry : nonVanillaStateOverrides.entrySet()) {
+                GeyserBedrockBlock bedrockDefinition = customBlockStateDefinitions.get(entry.getValue());
+                if (bedrockDefinition == null) {
+                    GeyserImpl.getInstance().getLogger().warning("Unable to find custom block for " + entry.getValue());
+                    continue;
                 }
-            }
 
-            javaToBedrockIdentifiers.trim();
+                JavaBlockState javaState = entry.getKey();
+                int stateRuntimeId = javaState.javaId();
+
+                boolean waterlogged = javaState.waterlogged();
 
-            // Loop around again to find all item frame runtime IDs
-            Object2ObjectMaps.fastForEach(blockStateOrderedMap, entry -> {
-                String name = entry.getKey().getString("name");
-                if (name.equals("minecraft:frame") || name.equals("minecraft:glow_frame")) {
-                    itemFrames.put(entry.getKey(), entry.getValue());
+                if (waterlogged) {
+                    waterloggedStates.set(stateRuntimeId);
                 }
-            });
-
-            BlockRegistries.BLOCKS.register(palette.valueInt(), builder.bedrockRuntimeMap(bedrockRuntimeMap)
-                    .javaToBedrockBlocks(javaToBedrockBlocks)
-                    .javaToVanillaBedrockBlocks(javaToVanillaBedrockBlocks)
-                    .javaToBedrockIdentifiers(javaToBedrockIdentifiers)
-                    .stateDefinitionMap(blockStateOrderedMap)
-                    .itemFrames(itemFrames)
-                    .flowerPotBlocks(flowerPotBlocks)
-                    .jigsawStates(jigsawDefinitions)
-                    .structureBlockStates(structureBlockDefinitions)
-                    .remappedVanillaIds(remappedVanillaIds)
-                    .blockProperties(customBlockProperties)
-                    .customBlockStateDefinitions(customBlockStateDefinitions)
-                    .build());
+
+                javaToVanillaBedrockBlocks[stateRuntimeId] = bedrockDefinition; // TODO: Check this?
+                javaToBedrockBlocks[stateRuntimeId] = bedrockDefinition;
+                javaToBedrockIdentifiers.put(entry.getKey().stateGroupId(), entry.getValue().block().identifier());
+            }
+        }
+
+        javaToBedrockIdentifiers.trim();
+
+        if (vanillaRuntimeIds != null) {
+            snapshot.put(protocolVersion, inputsHash, vanillaRuntimeIds);
         }
+
+        // Loop around again to find all item frame runtime IDs
+        Object2ObjectMaps.fastForEach(blockStateOrderedMap, entry -> {
+            String name = entry.getKey().getString("name");
+            if (name.equals("minecraft:frame") || name.equals("minecraft:glow_frame")) {
+                itemFrames.put(entry.getKey(), entry.getValue());
+            }
+        });
+
+        return new PaletteMappings(protocolVersion, waterloggedStates, builder.bedrockRuntimeMap(bedrockRuntimeMap)
+                .javaToBedrockBlocks(javaToBedrockBlocks)
+                .javaToVanillaBedrockBlocks(javaToVanillaBedrockBlocks)
+                .javaToBedrockIdentifiers(javaToBedrockIdentifiers)
+                .stateDefinitionMap(blockStateOrderedMap)
+                .itemFrames(itemFrames)
+                .flowerPotBlocks(flowerPotBlocks)
+                .jigsawStates(jigsawDefinitions)
+                .structureBlockStates(structureBlockDefinitions)
+                .remappedVanillaIds(remappedVanillaIds)
+                .blockProperties(customBlockProperties)
+                .customBlockStateDefinitions(customBlockStateDefinitions)
+                .build());
+    }
+
+    private record PaletteMappings(int protocolVersion, BitSet waterlogged, BlockMappings mappings) {
     }
 
     private static void registerJavaBlocks() {
         List<NbtMap> blocksNbt;
+        MessageDigest digest = BlockMappingsSnapshot.digest();
         try (InputStream stream = GeyserImpl.getInstance().getBootstrap().getResourceOrThrow("mappings/blocks.nbt")) {
-            blocksNbt = ((NbtMap) NbtUtils.createGZIPReader(stream).readTag())
+            byte[] bytes = stream.readAllBytes();
+            digest.update(bytes);
+            blocksNbt = ((NbtMap) NbtUtils.createGZIPReader(new ByteArrayInputStream(bytes)).readTag())
                     .getList("bedrock_mappings", NbtType.COMPOUND);
         } catch (Exception e) {
             throw new AssertionError("Unable to load Java block mappings", e);
@@ -427,9 +499,11 @@ public final class BlockRegistryPopulator {
             String javaId = javaBlockState.toString().intern();
 
             BlockRegistries.JAVA_BLOCK_STATE_IDENTIFIER_TO_ID.register(javaId, javaRuntimeId);
+            digest.update(javaId.getBytes(StandardCharsets.UTF_8));
         }
 
         BLOCKS_NBT = blocksNbt;
+        BLOCKS_NBT_HASH = digest.digest();
         JAVA_BLOCKS_SIZE = blocksNbt.size();
 
         JsonObject blockInteractionsJson;
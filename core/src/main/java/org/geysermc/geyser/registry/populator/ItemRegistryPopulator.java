@@ -76,12 +76,14 @@ import org.geysermc.geyser.inventory.item.StoredItemMappings;
 import org.geysermc.geyser.item.GeyserCustomMappingData;
 import org.geysermc.geyser.item.Items;
 import org.geysermc.geyser.item.TooltipOptions;
+import org.geysermc.geyser.item.custom.CustomItemPredicateTable;
 import org.geysermc.geyser.item.custom.GeyserCustomItemDefinition;
 import org.geysermc.geyser.item.custom.impl.predicates.GeyserRangeDispatchPredicate;
 import org.geysermc.geyser.item.exception.InvalidItemComponentsException;
 import org.geysermc.geyser.item.type.BlockItem;
 import org.geysermc.geyser.item.type.Item;
 import org.geysermc.geyser.level.block.property.Properties;
+import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.populator.conversion.ChaosCubedConverter;
@@ -152,6 +154,9 @@ public class ItemRegistryPopulator {
         GeyserMappingItem remap(Item item, GeyserMappingItem mapping);
     }
 
+    private record PaletteFiles(PaletteVersion palette, List<PaletteItem> itemEntries, NbtMap vanillaComponents) {
+    }
+
     public static void populate() {
         List<PaletteVersion> paletteVersions = new ArrayList<>(4);
         paletteVersions.add(new PaletteVersion("26_0", Bedrock_v924.CODEC.getProtocolVersion(), GoldenDandelionConverter.convertItem()));
@@ -180,23 +185,36 @@ public class ItemRegistryPopulator {
         // We can reduce some operations as Java information is the same across all palette versions
         boolean firstMappingsPass = true;
 
-        /* Load item palette */
-        for (PaletteVersion palette : paletteVersions) {
-            Type paletteEntriesType = new TypeToken<List<PaletteItem>>() { }.getType();
-
-            List<PaletteItem> itemEntries;
-            try (InputStream stream = bootstrap.getResourceOrThrow(String.format("bedrock/runtime_item_states.%s.json", palette.version()))) {
-                itemEntries = JsonUtils.fromJson(stream, paletteEntriesType);
-            } catch (Exception e) {
-                throw new AssertionError("Unable to load Bedrock runtime item IDs", e);
-            }
+        // Only build the mappings of the Bedrock versions that can join
+        paletteVersions.removeIf(palette -> !GameProtocol.SUPPORTED_BEDROCK_PROTOCOLS.contains(palette.protocolVersion()));
+
+        // Reading the palette files of every version at once saves a lot of time; building the mappings
+        // has to happen one version after another, as custom items are only registered during the first pass
+        Type paletteEntriesType = new TypeToken<List<PaletteItem>>() { }.getType();
+        List<PaletteFiles> paletteFiles = paletteVersions.parallelStream()
+            .map(palette -> {
+                List<PaletteItem> itemEntries;
+                try (InputStream stream = bootstrap.getResourceOrThrow(String.format("bedrock/runtime_item_states.%s.json", palette.version()))) {
+                    itemEntries = JsonUtils.fromJson(stream, paletteEntriesType);
+                } catch (Exception e) {
+                    throw new AssertionError("Unable to load Bedrock runtime item IDs", e);
+                }
 
-            NbtMap vanillaComponents;
-            try (InputStream stream = bootstrap.getResourceOrThrow("bedrock/item_components.%s.nbt".formatted(palette.version()))) {
-                vanillaComponents = (NbtMap) NbtUtils.createGZIPReader(stream, true, true).readTag();
-            } catch (Exception e) {
-                throw new AssertionError("Unable to load Bedrock item components", e);
-            }
+                NbtMap vanillaComponents;
+                try (InputStream stream = bootstrap.getResourceOrThrow("bedrock/item_components.%s.nbt".formatted(palette.version()))) {
+                    vanillaComponents = (NbtMap) NbtUtils.createGZIPReader(stream, true, true).readTag();
+                } catch (Exception e) {
+                    throw new AssertionError("Unable to load Bedrock item components", e);
+                }
+                return new PaletteFiles(palette, itemEntries, vanillaComponents);
+            })
+            .toList();
+
+        /* Load item palette */
+        for (PaletteFiles files : paletteFiles) {
+            PaletteVersion palette = files.palette();
+            List<PaletteItem> itemEntries = files.itemEntries();
+            NbtMap vanillaComponents = files.vanillaComponents();
 
             // Used for custom items
             int nextFreeBedrockId = 0;
@@ -571,6 +589,7 @@ public class ItemRegistryPopulator {
                     customItemDefinitions = null;
                 }
                 mappingBuilder.customItemDefinitions(customItemDefinitions);
+                mappingBuilder.customItemTables(customItemDefinitions == null ? null : CustomItemPredicateTable.compile(customItemDefinitions));
                 mappingBuilder.containsV1Mappings(containsOldMappings);
 
                 ItemMapping mapping = mappingBuilder.build();
@@ -28,37 +28,29 @@ package org.geysermc.geyser.registry.populator;
 import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.registry.Registries;
+import org.geysermc.geyser.translator.protocol.GeneratedPacketTranslators;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
-import org.geysermc.geyser.util.AnnotationUtils;
 import org.geysermc.mcprotocollib.network.packet.Packet;
 
 public class PacketRegistryPopulator {
 
+    /**
+     * Registers all translators annotated with {@link Translator}. The translators are listed and instantiated by
+     * {@link GeneratedPacketTranslators}, which is generated at compile time, so no reflection is needed here.
+     */
     @SuppressWarnings("unchecked")
     public static void populate() {
-        for (Class<?> clazz : AnnotationUtils.getGeneratedClassesForAnnotation(Translator.class)) {
-            Class<?> packet = clazz.getAnnotation(Translator.class).packet();
-
-            GeyserImpl.getInstance().getLogger().debug("Found annotated translator: " + clazz.getCanonicalName() + " : " + packet.getSimpleName());
-
-            try {
-                if (Packet.class.isAssignableFrom(packet)) {
-                    Class<? extends Packet> targetPacket = (Class<? extends Packet>) packet;
-                    PacketTranslator<? extends Packet> translator = (PacketTranslator<? extends Packet>) clazz.getConstructor().newInstance();
-
-                    Registries.JAVA_PACKET_TRANSLATORS.register(targetPacket, translator);
-                } else if (BedrockPacket.class.isAssignableFrom(packet)) {
-                    Class<? extends BedrockPacket> targetPacket = (Class<? extends BedrockPacket>) packet;
-                    PacketTranslator<? extends BedrockPacket> translator = (PacketTranslator<? extends BedrockPacket>) clazz.getConstructor().newInstance();
-
-                    Registries.BEDROCK_PACKET_TRANSLATORS.register(targetPacket, translator);
-                } else {
-                    GeyserImpl.getInstance().getLogger().error("Class " + clazz.getCanonicalName() + " is annotated as a translator but has an invalid target packet.");
-                }
-            } catch (Exception e) {
-                GeyserImpl.getInstance().getLogger().error("Could not instantiate annotated translator " + clazz.getCanonicalName());
+        GeneratedPacketTranslators.forEach((packet, translator) -> {
+            GeyserImpl.getInstance().getLogger().debug("Found annotated translator: " + translator.getClass().getCanonicalName() + " : " + packet.getSimpleName());
+
+            if (Packet.class.isAssignableFrom(packet)) {
+                Registries.JAVA_PACKET_TRANSLATORS.register((Class<? extends Packet>) packet, (PacketTranslator<? extends Packet>) translator);
+            } else if (BedrockPacket.class.isAssignableFrom(packet)) {
+                Registries.BEDROCK_PACKET_TRANSLATORS.register((Class<? extends BedrockPacket>) packet, (PacketTranslator<? extends BedrockPacket>) translator);
+            } else {
+                GeyserImpl.getInstance().getLogger().error("Class " + translator.getClass().getCanonicalName() + " is annotated as a translator but has an invalid target packet.");
             }
-        }
+        });
     }
 }
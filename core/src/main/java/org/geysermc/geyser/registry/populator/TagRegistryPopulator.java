@@ -41,6 +41,7 @@ import org.cloudburstmc.protocol.bedrock.codec.v975.Bedrock_v975;
 import org.geysermc.geyser.GeyserBootstrap;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.item.type.Item;
+import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.ItemMapping;
 import org.geysermc.geyser.registry.type.ItemMappings;
@@ -81,6 +82,9 @@ public final class TagRegistryPopulator {
         GeyserBootstrap bootstrap = GeyserImpl.getInstance().getBootstrap();
 
         for (var palette : paletteVersions) {
+            if (!GameProtocol.SUPPORTED_BEDROCK_PROTOCOLS.contains(palette.rightInt())) {
+                continue;
+            }
             ItemMappings mappings = Registries.ITEMS.forVersion(palette.rightInt());
 
             Map<String, List<String>> bedrockTags;
@@ -37,8 +37,11 @@ import org.cloudburstmc.protocol.bedrock.data.definitions.BlockDefinition;
 import org.cloudburstmc.protocol.bedrock.data.definitions.ItemDefinition;
 import org.geysermc.geyser.item.GeyserCustomMappingData;
 import org.geysermc.geyser.item.Items;
+import org.geysermc.geyser.item.custom.CustomItemPredicateTable;
 import org.geysermc.geyser.item.type.Item;
 
+import java.util.Map;
+
 @Value
 @Builder
 @EqualsAndHashCode
@@ -51,6 +54,7 @@ public class ItemMapping {
             null, // Air is never sent in full over the network for this to serialize.
             null,
             null,
+            null,
             false,
             Items.AIR
     );
@@ -73,6 +77,12 @@ public class ItemMapping {
     @Nullable
     SortedSetMultimap<Key, GeyserCustomMappingData> customItemDefinitions;
 
+    /**
+     * The custom items of {@link #customItemDefinitions}, with their predicates compiled for lookups.
+     */
+    @Nullable
+    Map<Key, CustomItemPredicateTable> customItemTables;
+
     @Builder.Default
     boolean containsV1Mappings = false;
 
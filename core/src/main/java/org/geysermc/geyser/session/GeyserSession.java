@@ -156,10 +156,12 @@ import org.geysermc.geyser.inventory.recipe.TrimRecipes;
 import org.geysermc.geyser.item.Items;
 import org.geysermc.geyser.item.type.BlockItem;
 import org.geysermc.geyser.level.BedrockDimension;
+import org.geysermc.geyser.level.BlockPositionIndex;
 import org.geysermc.geyser.level.JavaDimension;
 import org.geysermc.geyser.level.gamerule.GameRuleHandler;
 import org.geysermc.geyser.level.physics.CollisionManager;
 import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.network.compression.SessionCompressionStrategy;
 import org.geysermc.geyser.network.netty.LocalSession;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.BlockMappings;
@@ -177,6 +179,8 @@ import org.geysermc.geyser.session.cache.EntityEffectCache;
 import org.geysermc.geyser.session.cache.FormCache;
 import org.geysermc.geyser.session.cache.InputCache;
 import org.geysermc.geyser.session.cache.LodestoneCache;
+import org.geysermc.geyser.session.cache.MapCache;
+import org.geysermc.geyser.session.cache.ParticleLimiter;
 import org.geysermc.geyser.session.cache.PistonCache;
 import org.geysermc.geyser.session.cache.PreferencesCache;
 import org.geysermc.geyser.session.cache.RegistryCache;
@@ -193,6 +197,7 @@ import org.geysermc.geyser.session.cache.waypoint.WaypointCache;
 import org.geysermc.geyser.session.dialog.BuiltInDialog;
 import org.geysermc.geyser.session.dialog.Dialog;
 import org.geysermc.geyser.session.dialog.DialogManager;
+import org.geysermc.geyser.skin.SkinDeliveryQueue;
 import org.geysermc.geyser.skin.SkinManager;
 import org.geysermc.geyser.text.GeyserLocale;
 import org.geysermc.geyser.translator.inventory.InventoryTranslator;
@@ -285,6 +290,11 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private List<String> certChainData;
     @Setter
     private String token;
+    /**
+     * How packets to the client are compressed, or null if the client hasn't requested the network settings yet.
+     */
+    @Setter
+    private @Nullable SessionCompressionStrategy compressionStrategy;
 
     @NonNull
     @Setter
@@ -307,6 +317,9 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private final GameRuleHandler gameRuleHandler;
     private final InputCache inputCache;
     private final LodestoneCache lodestoneCache;
+    private final MapCache mapCache;
+    private final ParticleLimiter particleLimiter;
+    private final SkinDeliveryQueue skinDeliveryQueue;
     private final PistonCache pistonCache;
     private final PreferencesCache preferencesCache;
     private final RegistryCache registryCache;
@@ -420,7 +433,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * A map of Vector3i positions to Java entities.
      * Used for translating Bedrock block actions to Java entity actions.
      */
-    private final Map<Vector3i, ItemFrameEntity> itemFrameCache = new Object2ObjectOpenHashMap<>();
+    private final BlockPositionIndex<ItemFrameEntity> itemFrameCache = new BlockPositionIndex<>();
 
     /**
      * A map of all players (and their heads) that are wearing a player head with a custom texture.
@@ -743,9 +756,9 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private boolean advancedTooltips = false;
 
     /**
-     * The thread that will run every game tick.
+     * Runs {@link #tick()} every game tick.
      */
-    private ScheduledFuture<?> tickThread = null;
+    private SessionTickScheduler.Task tickTask = null;
 
     /**
      * The number of ticks that have elapsed since the start of this session
@@ -867,6 +880,9 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         this.formCache = new FormCache(this);
         this.inputCache = new InputCache(this);
         this.lodestoneCache = new LodestoneCache();
+        this.mapCache = new MapCache();
+        this.particleLimiter = new ParticleLimiter(this);
+        this.skinDeliveryQueue = new SkinDeliveryQueue(this);
         this.pistonCache = new PistonCache(this);
         this.preferencesCache = new PreferencesCache(this);
         this.registryCache = new RegistryCache(this);
@@ -1184,7 +1200,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         this.remoteServer = this.geyser.platformType() == PlatformType.STANDALONE ? loginEvent.remoteServer() : remoteServer;
 
         // Start ticking
-        tickThread = tickEventLoop.scheduleAtFixedRate(this::tick, nanosecondsPerTick, nanosecondsPerTick, TimeUnit.NANOSECONDS);
+        tickTask = SessionTickScheduler.forEventLoop(tickEventLoop).schedule(this, nanosecondsPerTick);
 
         ClientSession downstream;
         if (geyser.getBootstrap().getSocketAddress() != null) {
@@ -1266,14 +1282,20 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
                 upstream.disconnect(disconnectEvent.disconnectReason());
             }
 
+            if (compressionStrategy != null && geyser.getLogger().isDebug()) {
+                geyser.getLogger().debug(String.format("Compression of %s: %s, %.1f%% of %d bytes, %d ms", bedrockUsername(),
+                    compressionStrategy.getSettings(), compressionStrategy.compressionRatio() * 100,
+                    compressionStrategy.getUncompressedBytes(), TimeUnit.NANOSECONDS.toMillis(compressionStrategy.getCompressionNanos())));
+            }
+
             // Remove from session manager
             geyser.getSessionManager().removeSession(this);
             // Don't cancel any pending Microsoft auth here - the whole point of PendingMicrosoftAuthentication
             // is to let mobile users disconnect to finish auth in the browser. Task cleans up on timeout.
         }
 
-        if (tickThread != null) {
-            tickThread.cancel(false);
+        if (tickTask != null) {
+            tickTask.cancel();
         }
 
         queuedImmediatelyPackets.clear();
@@ -1325,13 +1347,12 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     }
 
     public void updateTickingState(float tickRate, boolean frozen) {
-        tickThread.cancel(false);
         this.tickingFrozen = frozen;
 
         tickRate = MathUtils.clamp(tickRate, 1.0f, 10000.0f);
         millisecondsPerTick = 1000.0f / tickRate;
         nanosecondsPerTick = MathUtils.ceil(1000000000.0f / tickRate);
-        tickThread = tickEventLoop.scheduleAtFixedRate(this::tick, nanosecondsPerTick, nanosecondsPerTick, TimeUnit.NANOSECONDS);
+        tickTask.setInterval(nanosecondsPerTick);
     }
 
     private void executeRunnable(Runnable runnable) {
@@ -1424,6 +1445,8 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
             this.bundleCache.tick();
             this.dialogManager.tick();
+            this.particleLimiter.tick();
+            this.skinDeliveryQueue.tick();
             this.waypointCache.tick();
 
             this.upstream.getSession().getPeer().sendPacketsImmediately(0, 0, queuedImmediatelyPackets.toArray(new BedrockPacket[0]));
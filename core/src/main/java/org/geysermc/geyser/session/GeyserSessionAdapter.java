@@ -151,7 +151,7 @@ public class GeyserSessionAdapter extends SessionAdapter {
 
         // Let the user know there locale may take some time to download
         // as it has to be extracted from a JAR
-        if (locale.equalsIgnoreCase("en_us") && !MinecraftLocale.LOCALE_MAPPINGS.containsKey("en_us")) {
+        if (locale.equalsIgnoreCase("en_us") && !MinecraftLocale.isLocaleLoaded("en_us")) {
             // This should probably be left hardcoded as it will only show for en_us clients
             session.sendMessage("Loading your locale (en_us); if this isn't already downloaded, this may take some time");
         }
@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session;
+
+import io.netty.channel.EventLoop;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Ticks all sessions of one event loop from a single scheduled task, instead of every session scheduling its own.
+ * <p>
+ * Sessions are kept in a hierarchical timer wheel with a resolution of one millisecond. The first level has a slot for
+ * each millisecond of the current 64 ms block; the second level has a slot for each of the next 63 blocks, which are
+ * moved into the first level once their block starts. The scheduler only wakes up for slots that have sessions in them,
+ * and sessions due in the same millisecond are ticked together.
+ * <p>
+ * A session that falls a whole interval behind (e.g. because the event loop stalled) is ticked once, and the ticks
+ * it missed are skipped rather than run in a burst.
+ * <p>
+ * Everything except {@link #stats()} and creating tasks must happen on the event loop.
+ */
+public final class SessionTickScheduler {
+    private static final Map<EventLoop, SessionTickScheduler> SCHEDULERS = new ConcurrentHashMap<>();
+
+    private static final long RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final EventLoop eventLoop;
+    private final LongSupplier nanoTime;
+    private final long origin;
+
+    private final Task[] level0 = new Task[WHEEL_SIZE];
+    private final Task[] level1 = new Task[WHEEL_SIZE];
+    /**
+     * Which slots of each level have tasks in them.
+     */
+    private long level0Mask;
+    private long level1Mask;
+    /**
+     * The tasks of the slot that is being ticked right now.
+     */
+    private @Nullable Task due;
+    /**
+     * The last tick (in {@link #RESOLUTION_NANOS}) the wheel has been advanced to.
+     */
+    private long currentTick;
+    private @Nullable ScheduledFuture<?> wakeUp;
+    private long wakeUpTick = -1;
+
+    // Only written on the event loop; volatile so dumps can read them
+    private volatile int sessions;
+    private volatile long ticks;
+    private volatile long totalLatenessNanos;
+    private volatile long maxLatenessNanos;
+    private volatile long jitterNanos;
+    private volatile long overruns;
+    private volatile long skippedTicks;
+    private long lastLatenessNanos;
+
+    SessionTickScheduler(EventLoop eventLoop, LongSupplier nanoTime) {
+        this.eventLoop = eventLoop;
+        this.nanoTime = nanoTime;
+        this.origin = nanoTime.getAsLong();
+    }
+
+    public static SessionTickScheduler forEventLoop(EventLoop eventLoop) {
+        // Event loops are replaced when Geyser reloads
+        SCHEDULERS.values().removeIf(scheduler -> scheduler.eventLoop.isTerminated());
+        return SCHEDULERS.computeIfAbsent(eventLoop, loop -> new SessionTickScheduler(loop, System::nanoTime));
+    }
+
+    public static List<Stats> allStats() {
+        return SCHEDULERS.values().stream().map(SessionTickScheduler::stats).toList();
+    }
+
+    /**
+     * Starts ticking the session, with the first tick one interval from now.
+     */
+    public Task schedule(GeyserSession session, long intervalNanos) {
+        Task task = new Task(session, intervalNanos);
+        runInEventLoop(() -> {
+            if (task.cancelled) {
+                return;
+            }
+            task.registered = true;
+            sessions++;
+            task.deadline = nanoTime.getAsLong() + task.interval;
+            insertNow(task);
+        });
+        return task;
+    }
+
+    public Stats stats() {
+        long ticks = this.ticks;
+        return new Stats(sessions, ticks, ticks == 0 ? 0 : toMillis(totalLatenessNanos / (double) ticks),
+            toMillis(maxLatenessNanos), toMillis(jitterNanos), overruns, skippedTicks);
+    }
+
+    private void runInEventLoop(Runnable runnable) {
+        if (eventLoop.inEventLoop()) {
+            runnable.run();
+        } else if (!eventLoop.isShuttingDown()) {
+            eventLoop.execute(runnable);
+        }
+    }
+
+    /**
+     * Inserts a task from outside of {@link #runSlot(int)}.
+     */
+    private void insertNow(Task task) {
+        if (level0Mask == 0 && level1Mask == 0) {
+            // The wheel hasn't been advanced while it was empty
+            currentTick = Math.max(currentTick, nowTick());
+        }
+        insert(task);
+        scheduleWakeUp();
+    }
+
+    private void wakeUp() {
+        wakeUp = null;
+        wakeUpTick = -1;
+        advance(nowTick());
+        scheduleWakeUp();
+    }
+
+    private void advance(long nowTick) {
+        long next;
+        while ((next = nextTick()) != -1 && next <= nowTick) {
+            currentTick = next;
+            if ((next & WHEEL_MASK) == 0) {
+                cascade(next);
+            }
+            int slot = (int) (next & WHEEL_MASK);
+            if ((level0Mask & (1L << slot)) != 0) {
+                runSlot(slot);
+            }
+        }
+        currentTick = Math.max(currentTick, nowTick);
+    }
+
+    /**
+     * @return the next tick that has something to do, or -1 if the wheel is empty
+     */
+    private long nextTick() {
+        long remaining = level0Mask & (-2L << (currentTick & WHEEL_MASK));
+        if (remaining != 0) {
+            return (currentTick & ~WHEEL_MASK) | Long.numberOfTrailingZeros(remaining);
+        }
+        if (level1Mask != 0) {
+            long block = (currentTick >> WHEEL_BITS) + 1;
+            int offset = Long.numberOfTrailingZeros(Long.rotateRight(level1Mask, (int) (block & WHEEL_MASK)));
+            return (block + offset) << WHEEL_BITS;
+        }
+        return -1;
+    }
+
+    /**
+     * Moves the tasks of the block starting at the given tick into the first level.
+     */
+    private void cascade(long blockStart) {
+        int slot = (int) ((blockStart >> WHEEL_BITS) & WHEEL_MASK);
+        Task task = level1[slot];
+        level1[slot] = null;
+        level1Mask &= ~(1L << slot);
+        while (task != null) {
+            Task next = task.next;
+            task.prev = task.next = null;
+            task.level = Task.NONE;
+
+            long tick = Math.max(deadlineTick(task.deadline), blockStart);
+            if ((tick >> WHEEL_BITS) == (blockStart >> WHEEL_BITS)) {
+                link(task, Task.LEVEL_0, (int) (tick & WHEEL_MASK));
+            } else {
+                // Was too far away to fit in the wheel
+                insert(task);
+            }
+            task = next;
+        }
+    }
+
+    private void runSlot(int slot) {
+        due = level0[slot];
+        level0[slot] = null;
+        level0Mask &= ~(1L << slot);
+        for (Task task = due; task != null; task = task.next) {
+            task.level = Task.DUE;
+        }
+
+        Task task;
+        while ((task = due) != null) {
+            unlink(task);
+            if (task.cancelled) {
+                continue;
+            }
+
+            long now = nanoTime.getAsLong();
+            if (task.deadline > now) {
+                // Its interval was changed after it was put in this slot
+                insert(task);
+                continue;
+            }
+            recordLateness(now - task.deadline, task.interval);
+
+            task.deadline += task.interval;
+            try {
+                task.session.tick();
+            } catch (Throwable t) {
+                GeyserImpl.getInstance().getLogger().error("Error while ticking " + task.session.bedrockUsername(), t);
+            }
+            if (task.cancelled) {
+                continue;
+            }
+            if (task.deadline <= now) {
+                long behind = (now - task.deadline) / task.interval + 1;
+                skippedTicks += behind;
+                task.deadline += behind * task.interval;
+            }
+            insert(task);
+        }
+    }
+
+    private void recordLateness(long lateness, long interval) {
+        ticks++;
+        totalLatenessNanos += lateness;
+        if (lateness > maxLatenessNanos) {
+            maxLatenessNanos = lateness;
+        }
+        if (lateness >= interval) {
+            overruns++;
+        }
+        // Same estimator as RTP's interarrival jitter
+        jitterNanos += (Math.abs(lateness - lastLatenessNanos) - jitterNanos) / 16;
+        lastLatenessNanos = lateness;
+    }
+
+    private void insert(Task task) {
+        long tick = Math.max(deadlineTick(task.deadline), currentTick + 1);
+        long currentBlock = currentTick >> WHEEL_BITS;
+        long blocks = (tick >> WHEEL_BITS) - currentBlock;
+        if (blocks == 0) {
+            link(task, Task.LEVEL_0, (int) (tick & WHEEL_MASK));
+        } else {
+            // Anything further away is moved down when this block starts and inserted again
+            long block = blocks < WHEEL_SIZE ? tick >> WHEEL_BITS : currentBlock + WHEEL_SIZE - 1;
+            link(task, Task.LEVEL_1, (int) (block & WHEEL_MASK));
+        }
+    }
+
+    private void link(Task task, int level, int slot) {
+        Task[] slots = level == Task.LEVEL_0 ? level0 : level1;
+        task.level = level;
+        task.slot = slot;
+        task.prev = null;
+        task.next = slots[slot];
+        if (task.next != null) {
+            task.next.prev = task;
+        }
+        slots[slot] = task;
+        if (level == Task.LEVEL_0) {
+            level0Mask |= 1L << slot;
+        } else {
+            level1Mask |= 1L << slot;
+        }
+    }
+
+    private void unlink(Task task) {
+        switch (task.level) {
+            case Task.NONE -> {
+                return;
+            }
+            case Task.DUE -> {
+                if (due == task) {
+                    due = task.next;
+                }
+            }
+            case Task.LEVEL_0 -> {
+                if (level0[task.slot] == task) {
+                    level0[task.slot] = task.next;
+                    if (task.next == null) {
+                        level0Mask &= ~(1L << task.slot);
+                    }
+                }
+            }
+            default -> {
+                if (level1[task.slot] == task) {
+                    level1[task.slot] = task.next;
+                    if (task.next == null) {
+                        level1Mask &= ~(1L << task.slot);
+                    }
+                }
+            }
+        }
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.prev = task.next = null;
+        task.level = Task.NONE;
+    }
+
+    private void scheduleWakeUp() {
+        long next = nextTick();
+        if (next == wakeUpTick) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+            wakeUp = null;
+        }
+        wakeUpTick = next;
+        if (next != -1) {
+            long delay = origin + next * RESOLUTION_NANOS - nanoTime.getAsLong();
+            wakeUp = eventLoop.schedule(this::wakeUp, Math.max(delay, 0), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private long nowTick() {
+        return (nanoTime.getAsLong() - origin) / RESOLUTION_NANOS;
+    }
+
+    /**
+     * @return the first tick at or after the deadline, so sessions are never ticked early
+     */
+    private long deadlineTick(long deadline) {
+        return Math.ceilDiv(deadline - origin, RESOLUTION_NANOS);
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Ticks one session until cancelled.
+     */
+    public final class Task {
+        private static final int NONE = 0;
+        private static final int LEVEL_0 = 1;
+        private static final int LEVEL_1 = 2;
+        private static final int DUE = 3;
+
+        private final GeyserSession session;
+        private long interval;
+        private long deadline;
+        private volatile boolean cancelled;
+        private boolean registered;
+
+        // Where in the wheel this task is; a doubly linked list per slot so it can be removed right away
+        private int level = NONE;
+        private int slot;
+        private @Nullable Task prev;
+        private @Nullable Task next;
+
+        private Task(GeyserSession session, long interval) {
+            this.session = session;
+            this.interval = interval;
+        }
+
+        /**
+         * Changes how often the session is ticked, with the next tick one new interval from now.
+         */
+        public void setInterval(long intervalNanos) {
+            runInEventLoop(() -> {
+                if (cancelled) {
+                    return;
+                }
+                interval = intervalNanos;
+                deadline = nanoTime.getAsLong() + intervalNanos;
+                if (level == LEVEL_0 || level == LEVEL_1) {
+                    unlink(this);
+                    insertNow(this);
+                }
+                // Otherwise it is inserted once it has been registered or ticked
+            });
+        }
+
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            runInEventLoop(() -> {
+                if (!registered) {
+                    return;
+                }
+                registered = false;
+                sessions--;
+                if (level != DUE) {
+                    unlink(this);
+                }
+                // Otherwise it is dropped once its slot is ticked
+            });
+        }
+    }
+
+    /**
+     * @param averageLatenessMillis how late session ticks started on average
+     * @param jitterMillis how much the lateness of one tick differs from the next
+     * @param overruns how many ticks started after the session's next tick was already due
+     * @param skippedTicks how many ticks were skipped for sessions that fell a whole interval behind
+     */
+    public record Stats(int sessions, long ticks, double averageLatenessMillis, double maxLatenessMillis,
+                        double jitterMillis, long overruns, long skippedTicks) {
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.cloudburstmc.protocol.bedrock.data.PlayerAuthInputData;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The input flags of the latest {@link org.cloudburstmc.protocol.bedrock.packet.PlayerAuthInputPacket}, and which of
+ * them changed since the packet before. Players send twenty of these a second, so the packets' own sets are read
+ * directly instead of being copied.
+ */
+public final class AuthInputFlags {
+    private Set<PlayerAuthInputData> previous = EnumSet.noneOf(PlayerAuthInputData.class);
+    private Set<PlayerAuthInputData> current = previous;
+
+    void update(Set<PlayerAuthInputData> inputData) {
+        previous = current;
+        current = inputData;
+    }
+
+    public boolean has(PlayerAuthInputData input) {
+        return current.contains(input);
+    }
+
+    public boolean hasAny(PlayerAuthInputData first, PlayerAuthInputData second) {
+        return current.contains(first) || current.contains(second);
+    }
+
+    /**
+     * Bedrock sends input flags in order, so e.g. both START_SPRINTING and STOP_SPRINTING can be present, and then
+     * the latter one counts.
+     *
+     * @return whether {@code later} was sent after {@code input} in the latest packet
+     */
+    public boolean hasAfter(PlayerAuthInputData input, PlayerAuthInputData later) {
+        return later.ordinal() > input.ordinal() && current.contains(later);
+    }
+
+    /**
+     * @return whether {@code input} is present in the latest packet, but was not in the one before
+     */
+    public boolean wasPressed(PlayerAuthInputData input) {
+        return current.contains(input) && !previous.contains(input);
+    }
+
+    /**
+     * @return whether {@code input} was present in the packet before, but is not in the latest one
+     */
+    public boolean wasReleased(PlayerAuthInputData input) {
+        return previous.contains(input) && !current.contains(input);
+    }
+
+    /**
+     * @return the flags of the latest packet, in the order they were sent. Must not be modified.
+     */
+    public Set<PlayerAuthInputData> current() {
+        return current;
+    }
+}
@@ -25,21 +25,38 @@
 
 package org.geysermc.geyser.session.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMaps;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.kyori.adventure.key.Key;
 import org.geysermc.geyser.item.components.resolvable.ResolvableComponent;
 import org.geysermc.geyser.item.components.resolvable.ResolvableComponentGetter;
 import org.geysermc.geyser.item.type.Item;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.registry.JavaRegistryKey;
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 public class ComponentCache implements ResolvableComponentGetter {
+    /**
+     * Resolved components only depend on the network IDs of registry entries, so sessions with the same registries
+     * can share them. Keyed by {@link RegistryCache#registryKeys()}.
+     */
+    private static final Cache<Map<JavaRegistryKey<?>, List<Key>>, Reference2ObjectMap<Item, DataComponents>> SHARED_COMPONENTS = CacheBuilder.newBuilder()
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .maximumSize(16)
+        .build();
+
     private final GeyserSession session;
-    private final Reference2ObjectMap<Item, DataComponents> resolvedComponents = new Reference2ObjectOpenHashMap<>();
+    private Reference2ObjectMap<Item, DataComponents> resolvedComponents = Reference2ObjectMaps.emptyMap();
 
     public ComponentCache(GeyserSession session) {
         this.session = session;
@@ -51,7 +68,18 @@ public class ComponentCache implements ResolvableComponentGetter {
     }
 
     public void resolveComponents() {
-        resolvedComponents.clear();
+        try {
+            resolvedComponents = SHARED_COMPONENTS.get(Map.copyOf(session.getRegistryCache().registryKeys()), this::resolve);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * The returned map and its components are shared between sessions, and must not be modified.
+     */
+    private Reference2ObjectMap<Item, DataComponents> resolve() {
+        Reference2ObjectMap<Item, DataComponents> resolvedComponents = new Reference2ObjectOpenHashMap<>();
         for (Item item : Registries.JAVA_ITEMS.get()) {
             List<ResolvableComponent<?>> toResolve = item.resolvableComponents();
             if (!toResolve.isEmpty()) {
@@ -62,5 +90,6 @@ public class ComponentCache implements ResolvableComponentGetter {
                 resolvedComponents.put(item, resolved);
             }
         }
+        return Reference2ObjectMaps.unmodifiable(resolvedComponents);
     }
 }
@@ -317,6 +317,7 @@ public class EntityCache {
         if (player != null) {
             // notify scoreboard
             session.getWorldCache().getScoreboard().playerRemoved(player);
+            session.getSkinDeliveryQueue().remove(uuid);
         }
         return player;
     }
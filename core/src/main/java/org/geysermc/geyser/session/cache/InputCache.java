@@ -39,10 +39,10 @@ import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.level.ServerboundPlayerInputPacket;
 
-import java.util.Set;
-
 public final class InputCache {
     private final GeyserSession session;
+    @Getter
+    private final AuthInputFlags inputFlags = new AuthInputFlags();
     private ServerboundPlayerInputPacket inputPacket = new ServerboundPlayerInputPacket(false, false, false, false, false, false, false);
     @Setter
     private boolean lastHorizontalCollision;
@@ -60,9 +60,10 @@ public final class InputCache {
 
     public void processInputs(SessionPlayerEntity entity, PlayerAuthInputPacket packet) {
         // Input is sent to the server before packet positions, as of 1.21.2
-        Set<PlayerAuthInputData> bedrockInput = packet.getInputData();
+        AuthInputFlags bedrockInput = this.inputFlags;
+        bedrockInput.update(packet.getInputData());
         // While spectating an entity, jump cycles the camera view (first-person / third-person back / front)
-        if (EntitySpectateHelper.isSpectating(session) && bedrockInput.contains(PlayerAuthInputData.JUMP_PRESSED_RAW)) {
+        if (EntitySpectateHelper.isSpectating(session) && bedrockInput.has(PlayerAuthInputData.JUMP_PRESSED_RAW)) {
             EntitySpectateHelper.cycleMode(session);
         }
         var oldInputPacket = this.inputPacket;
@@ -87,29 +88,29 @@ public final class InputCache {
 
         boolean up, down, left, right;
         if (this.inputMode == InputMode.MOUSE || isMobileAndClassicMovement) {
-            up = bedrockInput.contains(PlayerAuthInputData.UP);
-            down = bedrockInput.contains(PlayerAuthInputData.DOWN);
-            left = bedrockInput.contains(PlayerAuthInputData.LEFT);
-            right = bedrockInput.contains(PlayerAuthInputData.RIGHT);
+            up = bedrockInput.has(PlayerAuthInputData.UP);
+            down = bedrockInput.has(PlayerAuthInputData.DOWN);
+            left = bedrockInput.has(PlayerAuthInputData.LEFT);
+            right = bedrockInput.has(PlayerAuthInputData.RIGHT);
 
             if (isMobileAndClassicMovement) {
                 // These are the buttons in the corners of the touch area
-                if (bedrockInput.contains(PlayerAuthInputData.UP_LEFT)) {
+                if (bedrockInput.has(PlayerAuthInputData.UP_LEFT)) {
                     up = true;
                     left = true;
                 }
 
-                if (bedrockInput.contains(PlayerAuthInputData.UP_RIGHT)) {
+                if (bedrockInput.has(PlayerAuthInputData.UP_RIGHT)) {
                     up = true;
                     right = true;
                 }
 
-                if (bedrockInput.contains(PlayerAuthInputData.DOWN_LEFT)) {
+                if (bedrockInput.has(PlayerAuthInputData.DOWN_LEFT)) {
                     down = true;
                     left = true;
                 }
 
-                if (bedrockInput.contains(PlayerAuthInputData.DOWN_RIGHT)) {
+                if (bedrockInput.has(PlayerAuthInputData.DOWN_RIGHT)) {
                     down = true;
                     right = true;
                 }
@@ -134,9 +135,9 @@ public final class InputCache {
             // using the "raw" values allows us sending key presses even with locked input
             // There appear to be cases where the raw value is not sent - e.g. sneaking with a shield on mobile (1.21.80)
             // We also need to check for water auto jumping, since bedrock don't send jumping value in those cases.
-            .withJump(bedrockInput.contains(PlayerAuthInputData.JUMP_CURRENT_RAW) || bedrockInput.contains(PlayerAuthInputData.JUMP_DOWN) || bedrockInput.contains(PlayerAuthInputData.AUTO_JUMPING_IN_WATER))
+            .withJump(bedrockInput.hasAny(PlayerAuthInputData.JUMP_CURRENT_RAW, PlayerAuthInputData.JUMP_DOWN) || bedrockInput.has(PlayerAuthInputData.AUTO_JUMPING_IN_WATER))
             .withShift(session.isShouldSendSneak() || sneaking)
-            .withSprint(bedrockInput.contains(PlayerAuthInputData.SPRINT_DOWN));
+            .withSprint(bedrockInput.has(PlayerAuthInputData.SPRINT_DOWN));
 
         // TODO - test whether we can rely on the Java server setting sneaking for us.
         // 1.21.6+ only sends the shifting state in the input packet, and removed the START/STOP sneak command packet sending
@@ -186,18 +187,18 @@ public final class InputCache {
 
      This method is designed to detect changes in sneaking to return the new sneaking state.
      */
-    public boolean isSneaking(Set<PlayerAuthInputData> authInputData) {
+    public boolean isSneaking(AuthInputFlags authInputData) {
         // Flying doesn't send start / stop fly cases; might as well return early
         if (session.isFlying()) {
             // Of course e.g. mobile devices handle it differently with a descend case, while
             // e.g. Win10 sends SNEAK_DOWN. Why? We'll never know.
-            return authInputData.contains(PlayerAuthInputData.DESCEND) || authInputData.contains(PlayerAuthInputData.SNEAK_DOWN);
+            return authInputData.hasAny(PlayerAuthInputData.DESCEND, PlayerAuthInputData.SNEAK_DOWN);
         }
 
         boolean sneaking = session.isSneaking();
         // Looping through input data as e.g. stop/start sneaking can be sent in the same packet
         // and then, the last sent instruction matters
-        for (PlayerAuthInputData authInput : authInputData) {
+        for (PlayerAuthInputData authInput : authInputData.current()) {
             switch (authInput) {
                 case STOP_SNEAKING -> sneaking = false;
                 case START_SNEAKING -> sneaking = true;
@@ -209,8 +210,8 @@ public final class InputCache {
                     // that we don't spam both cases for every block we went down
                     // Consoles would also send persist sneak; but don't send the descend_block flag
                     if (inputMode == InputMode.TOUCH && session.getPlayerEntity().isInsideScaffolding()) {
-                        return authInputData.contains(PlayerAuthInputData.DESCEND_BLOCK) &&
-                            authInputData.contains(PlayerAuthInputData.SNEAK_CURRENT_RAW);
+                        return authInputData.has(PlayerAuthInputData.DESCEND_BLOCK) &&
+                            authInputData.has(PlayerAuthInputData.SNEAK_CURRENT_RAW);
                     }
                 }
             }
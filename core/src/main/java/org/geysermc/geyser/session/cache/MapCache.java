@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.level.MapColor;
+import org.geysermc.mcprotocollib.protocol.data.game.level.map.MapData;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Keeps track of what each map looks like on the Bedrock client, so only the pixels that actually changed
+ * have to be sent again. Image map plugins tend to resend entire maps even if nothing changed.
+ * <p>
+ * Only the most recently updated maps are kept. Maps that aren't are sent in full again on their next update.
+ */
+public final class MapCache {
+    private static final int MAP_SIZE = 128;
+    /**
+     * 16 KiB each, so up to 2 MiB per session
+     */
+    private static final int MAX_CANVASES = 128;
+
+    /**
+     * Converted colors of full maps shared between all sessions, since map art is usually shown to every player.
+     * Keyed by the raw Java color data of the map. Partial updates are rarely identical between sessions, so they
+     * are converted every time.
+     */
+    private static final Cache<ColorKey, int[]> SHARED_COLORS = CacheBuilder.newBuilder()
+        // Enough for a few hundred full maps
+        .maximumWeight(16 * 1024 * 1024)
+        // The key's byte per pixel and the value's int per pixel
+        .<ColorKey, int[]>weigher((key, value) -> key.colors.length + value.length * Integer.BYTES)
+        .build();
+
+    /**
+     * In order of last update, so the least recently updated map can be dropped first
+     */
+    private final Int2ObjectLinkedOpenHashMap<byte[]> canvases = new Int2ObjectLinkedOpenHashMap<>();
+
+    /**
+     * Applies the map data to our copy of the map.
+     *
+     * @return the region of the map that changed on the client, or null if nothing changed
+     */
+    public @Nullable MapRegion update(int mapId, MapData data) {
+        int startX = data.getX();
+        int startY = data.getY();
+        int columns = data.getColumns();
+        int rows = data.getRows();
+        byte[] colors = data.getData();
+        if (startX < 0 || startY < 0 || startX + columns > MAP_SIZE || startY + rows > MAP_SIZE || colors.length < columns * rows) {
+            // Malformed, or a map size we don't know about - just send as is
+            return new MapRegion(startX, startY, columns, rows, convertRegion(columns, rows, colors));
+        }
+
+        byte[] canvas = canvases.getAndMoveToLast(mapId);
+        if (canvas == null) {
+            // First time we've seen this map, so the client can't have any of it
+            canvas = new byte[MAP_SIZE * MAP_SIZE];
+            canvases.putAndMoveToLast(mapId, canvas);
+            if (canvases.size() > MAX_CANVASES) {
+                canvases.removeFirst();
+            }
+            copyToCanvas(canvas, colors, startX, startY, columns, rows);
+            return new MapRegion(startX, startY, columns, rows, convertRegion(columns, rows, colors));
+        }
+
+        // Find the bounding box of the pixels that changed
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = -1, maxY = -1;
+        for (int y = 0; y < rows; y++) {
+            int canvasRow = (startY + y) * MAP_SIZE + startX;
+            int dataRow = y * columns;
+            for (int x = 0; x < columns; x++) {
+                if (canvas[canvasRow + x] != colors[dataRow + x]) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = y;
+                }
+            }
+        }
+
+        if (maxX == -1) {
+            return null;
+        }
+
+        copyToCanvas(canvas, colors, startX, startY, columns, rows);
+
+        int changedColumns = maxX - minX + 1;
+        int changedRows = maxY - minY + 1;
+        if (changedColumns == columns && changedRows == rows) {
+            return new MapRegion(startX, startY, columns, rows, convertRegion(columns, rows, colors));
+        }
+
+        byte[] changed = new byte[changedColumns * changedRows];
+        for (int y = 0; y < changedRows; y++) {
+            System.arraycopy(colors, (minY + y) * columns + minX, changed, y * changedColumns, changedColumns);
+        }
+        return new MapRegion(startX + minX, startY + minY, changedColumns, changedRows, convertRegion(changedColumns, changedRows, changed));
+    }
+
+    /**
+     * Forgets what the client has of this map, so its next update is sent in full. Used when the client asks for a
+     * map it doesn't have (anymore).
+     */
+    public void forget(int mapId) {
+        canvases.remove(mapId);
+    }
+
+    public void clear() {
+        canvases.clear();
+    }
+
+    private static void copyToCanvas(byte[] canvas, byte[] colors, int startX, int startY, int columns, int rows) {
+        for (int y = 0; y < rows; y++) {
+            System.arraycopy(colors, y * columns, canvas, (startY + y) * MAP_SIZE + startX, columns);
+        }
+    }
+
+    /**
+     * Converts Java map colors into ABGR colors. The returned array may be shared and must not be modified.
+     */
+    private static int[] convertRegion(int columns, int rows, byte[] colors) {
+        if (columns != MAP_SIZE || rows != MAP_SIZE) {
+            return convert(colors);
+        }
+        try {
+            return SHARED_COLORS.get(new ColorKey(colors), () -> convert(colors));
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static int[] convert(byte[] colors) {
+        int[] abgr = new int[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            abgr[i] = MapColor.abgrFromId(colors[i]);
+        }
+        return abgr;
+    }
+
+    /**
+     * @param colors the ABGR colors of the region. Shared between sessions; do not modify.
+     */
+    public record MapRegion(int x, int y, int columns, int rows, int[] colors) {
+    }
+
+    private record ColorKey(byte[] colors, int hash) {
+        ColorKey(byte[] colors) {
+            this(colors, Arrays.hashCode(colors));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ColorKey other && hash == other.hash && Arrays.equals(colors, other.colors);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.cloudburstmc.math.vector.Vector3f;
+import org.geysermc.geyser.session.GeyserSession;
+
+/**
+ * Limits how many particles are sent to a Bedrock client per tick. Every Bedrock particle is its own packet,
+ * so unlike Java we can't just let the client discard what it doesn't want to render.
+ */
+public final class ParticleLimiter {
+    /**
+     * Java clients don't render particles further away than this, unless the server overrides the limiter.
+     */
+    private static final double CULL_DISTANCE_SQUARED = 32 * 32;
+    /**
+     * Beyond this distance, particle counts are thinned out proportionally to the squared distance.
+     */
+    private static final double THIN_DISTANCE_SQUARED = 16 * 16;
+
+    private final GeyserSession session;
+    private final int maxPerTick;
+    private int remaining;
+
+    public ParticleLimiter(GeyserSession session) {
+        this.session = session;
+        this.maxPerTick = session.getGeyser().config().advanced().maxParticlesPerTick();
+        this.remaining = maxPerTick;
+    }
+
+    public void tick() {
+        this.remaining = maxPerTick;
+    }
+
+    /**
+     * @param requested how many particles the Java server wants to spawn
+     * @param overrideLimiter if the Java server wants this particle shown regardless of distance
+     * @return how many particles should actually be sent to the Bedrock client
+     */
+    public int allow(double x, double y, double z, int requested, boolean overrideLimiter) {
+        if (maxPerTick < 0) {
+            // Disabled
+            return requested;
+        }
+        if (remaining <= 0) {
+            return 0;
+        }
+
+        Vector3f position = session.getPlayerEntity().position();
+        double dx = x - position.getX();
+        double dy = y - position.getY();
+        double dz = z - position.getZ();
+        double distanceSquared = dx * dx + dy * dy + dz * dz;
+
+        int amount = requested;
+        if (!overrideLimiter) {
+            if (distanceSquared > CULL_DISTANCE_SQUARED) {
+                return 0;
+            }
+            if (distanceSquared > THIN_DISTANCE_SQUARED) {
+                amount = Math.max(1, (int) (amount * (THIN_DISTANCE_SQUARED / distanceSquared)));
+            }
+        }
+
+        amount = Math.min(amount, remaining);
+        remaining -= amount;
+        return amount;
+    }
+}
@@ -30,21 +30,35 @@ import org.cloudburstmc.math.vector.Vector3f;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.protocol.bedrock.packet.SetEntityMotionPacket;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.geysermc.geyser.entity.type.Entity;
 import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
 import org.geysermc.geyser.entity.vehicle.ClientVehicle;
+import org.geysermc.geyser.level.BlockPositionIndex;
 import org.geysermc.geyser.level.physics.Axis;
 import org.geysermc.geyser.level.physics.BoundingBox;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.translator.level.block.entity.PistonBlockEntity;
 
+import java.util.List;
 import java.util.Map;
 
 @Getter
 public class PistonCache {
+    /**
+     * Pistons further away than this from every block they move can't push the player, so they are not simulated.
+     * This leaves a wide margin for how far the player can move towards them in a tick.
+     */
+    private static final int INTERACTION_RADIUS = 16;
+    /**
+     * How far around a bounding box moving blocks are looked for. Blocks move at most one block,
+     * and pistons only displace the player by 0.51 blocks a tick.
+     */
+    private static final int COLLISION_MARGIN = 2;
+
     @Getter(AccessLevel.PRIVATE)
     private final GeyserSession session;
 
@@ -57,7 +71,13 @@ public class PistonCache {
      * Maps the position of a moving block to the piston moving it
      * Positions in this map represent the starting position of the block
      */
-    private final Map<Vector3i, PistonBlockEntity> movingBlocksMap = new Object2ObjectOpenHashMap<>();
+    private final BlockPositionIndex<PistonBlockEntity> movingBlocksMap = new BlockPositionIndex<>();
+
+    /**
+     * The pistons close enough to push the player this tick; only used during {@link #tick()}
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<PistonBlockEntity> simulatedPistons = new ObjectArrayList<>();
 
     private Vector3d playerDisplacement = Vector3d.ZERO;
 
@@ -93,18 +113,33 @@ public class PistonCache {
     public void tick() {
         resetPlayerMovement();
         if (!pistons.isEmpty()) {
-            pistons.values().forEach(PistonBlockEntity::updateMovement);
+            BoundingBox boundingBox = session.getCollisionManager().getActiveBoundingBox();
+            double playerX = boundingBox.getMiddleX();
+            double playerY = boundingBox.getMiddleY();
+            double playerZ = boundingBox.getMiddleZ();
+            for (PistonBlockEntity piston : pistons.values()) {
+                // Finished pistons only need their blocks placed and cleaned up
+                boolean simulate = !piston.isDone() && piston.isNear(playerX, playerY, playerZ, INTERACTION_RADIUS);
+                piston.updateMovement(simulate);
+                if (simulate) {
+                    simulatedPistons.add(piston);
+                } else {
+                    // Can't affect the player, so there's no need to wait for their movement
+                    piston.updateBlocks();
+                }
+            }
             sendPlayerMovement();
             sendPlayerMotion();
             // Update blocks after movement, so that players don't get stuck inside blocks
-            pistons.values().forEach(PistonBlockEntity::updateBlocks);
+            simulatedPistons.forEach(PistonBlockEntity::updateBlocks);
+            simulatedPistons.clear();
 
             pistons.entrySet().removeIf((entry) -> entry.getValue().canBeRemoved());
 
             if (pistons.isEmpty() && !movingBlocksMap.isEmpty()) {
                 session.getGeyser().getLogger().error("The moving block map has de-synced!");
-                for (Map.Entry<Vector3i, PistonBlockEntity> entry : movingBlocksMap.entrySet()) {
-                    session.getGeyser().getLogger().error("Moving Block at " + entry.getKey() + " was previously owned by the piston at " + entry.getValue().getPosition());
+                for (Vector3i position : movingBlocksMap.keySet()) {
+                    session.getGeyser().getLogger().error("Moving Block at " + position + " was previously owned by the piston at " + movingBlocksMap.get(position).getPosition());
                 }
             }
         }
@@ -177,6 +212,19 @@ public class PistonCache {
         playerDisplacement = totalDisplacement;
     }
 
+    /**
+     * @param boundingBox The bounding box to test
+     * @return Whether there may be moving blocks close enough to the bounding box to collide with it
+     */
+    public boolean hasMovingBlocksNear(BoundingBox boundingBox) {
+        return movingBlocksMap.anyNear(
+            (int) Math.floor(boundingBox.getMin(Axis.X)) - COLLISION_MARGIN,
+            (int) Math.floor(boundingBox.getMin(Axis.Z)) - COLLISION_MARGIN,
+            (int) Math.floor(boundingBox.getMax(Axis.X)) + COLLISION_MARGIN,
+            (int) Math.floor(boundingBox.getMax(Axis.Z)) + COLLISION_MARGIN
+        );
+    }
+
     /**
      * @param blockPos The block position to test
      * @param boundingBox The bounding box that moves
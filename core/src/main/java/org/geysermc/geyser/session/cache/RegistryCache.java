@@ -25,6 +25,8 @@
 
 package org.geysermc.geyser.session.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
@@ -66,10 +68,15 @@ import org.geysermc.mcprotocollib.protocol.packet.configuration.clientbound.Clie
 import org.jetbrains.annotations.VisibleForTesting;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Stores any information sent via Java registries. May not contain all data in a given registry - we'll strip what's
@@ -81,6 +88,19 @@ public final class RegistryCache implements JavaRegistryProvider {
     private static final Map<JavaRegistryKey<?>, Map<Key, NbtMap>> DEFAULTS;
     @VisibleForTesting
     public static final Map<JavaRegistryKey<?>, RegistryReader<?>> READERS = new HashMap<>();
+    /**
+     * Registries whose readers use the session, e.g. to translate descriptions into the player's language.
+     * These can't be shared between sessions.
+     */
+    private static final Set<JavaRegistryKey<?>> SESSION_DEPENDENT = Set.of(JavaRegistries.ENCHANTMENT, JavaRegistries.DIALOG,
+        JavaRegistries.JUKEBOX_SONG, JavaRegistries.INSTRUMENT);
+    /**
+     * Every session behind the same server receives the exact same registries, so we only read them once.
+     */
+    private static final Cache<RegistryContents, List<? extends RegistryEntryData<?>>> SHARED_REGISTRIES = CacheBuilder.newBuilder()
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .maximumSize(256)
+        .build();
 
     static {
         register(JavaRegistries.CHAT_TYPE, ChatDecoration::readChatType);
@@ -131,6 +151,10 @@ public final class RegistryCache implements JavaRegistryProvider {
 
     private final GeyserSession session;
     private final Reference2ObjectMap<JavaRegistryKey<?>, SimpleJavaRegistry<?>> registries;
+    /**
+     * The keys of every registry the server sent us, in network ID order.
+     */
+    private final Reference2ObjectMap<JavaRegistryKey<?>, List<Key>> registryKeys = new Reference2ObjectOpenHashMap<>();
 
     public RegistryCache(GeyserSession session) {
         this.session = session;
@@ -151,6 +175,7 @@ public final class RegistryCache implements JavaRegistryProvider {
             if (reader != null) {
                 try {
                     readRegistry(session, registryKey, registries.get(registryKey), reader, packet.getEntries());
+                    registryKeys.put(registryKey, packet.getEntries().stream().map(RegistryEntry::getId).toList());
                 } catch (Exception exception) {
                     GeyserImpl.getInstance().getLogger().error("Failed parsing registry entries for " + registryKey + "!", exception);
                 }
@@ -170,8 +195,32 @@ public final class RegistryCache implements JavaRegistryProvider {
         return (JavaRegistry<T>) registries.get(registryKey);
     }
 
+    /**
+     * @return the keys of every registry received from the server. Sessions with equal registry keys resolve
+     * registry references to the same network IDs.
+     */
+    public Map<JavaRegistryKey<?>, List<Key>> registryKeys() {
+        return Collections.unmodifiableMap(registryKeys);
+    }
+
+    @SuppressWarnings("unchecked")
     private static <T> void readRegistry(GeyserSession session, JavaRegistryKey<T> registryKey, SimpleJavaRegistry<T> registry,
                                          RegistryReader<T> reader, List<RegistryEntry> entries) {
+        if (SESSION_DEPENDENT.contains(registryKey)) {
+            registry.reset(parseRegistry(session, registryKey, reader, entries));
+            return;
+        }
+
+        try {
+            registry.reset((List<RegistryEntryData<T>>) SHARED_REGISTRIES.get(RegistryContents.of(registryKey, entries),
+                () -> parseRegistry(session, registryKey, reader, entries)));
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static <T> List<RegistryEntryData<T>> parseRegistry(GeyserSession session, JavaRegistryKey<T> registryKey,
+                                                                RegistryReader<T> reader, List<RegistryEntry> entries) {
         Map<Key, NbtMap> localRegistry = null;
 
         // Clear each local cache every time a new registry entry is given to us
@@ -203,7 +252,7 @@ public final class RegistryCache implements JavaRegistryProvider {
             }
             builder.add(i, new RegistryEntryData<>(i, entry.getId(), cacheEntry));
         }
-        registry.reset(builder);
+        return Collections.unmodifiableList(builder);
     }
 
     /**
@@ -222,6 +271,33 @@ public final class RegistryCache implements JavaRegistryProvider {
         // no-op
     }
 
+    /**
+     * The entries of a registry as sent by the server. Entries without data use our defaults, so they only
+     * need to be compared by key.
+     */
+    private record RegistryContents(JavaRegistryKey<?> registry, List<Key> keys, List<NbtMap> data, int hash) {
+        static RegistryContents of(JavaRegistryKey<?> registry, List<RegistryEntry> entries) {
+            List<Key> keys = new ArrayList<>(entries.size());
+            List<NbtMap> data = new ArrayList<>(entries.size());
+            for (RegistryEntry entry : entries) {
+                keys.add(entry.getId());
+                data.add(entry.getData());
+            }
+            return new RegistryContents(registry, keys, data, Objects.hash(registry, keys, data));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof RegistryContents other && hash == other.hash && registry == other.registry
+                && keys.equals(other.keys) && data.equals(other.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     @FunctionalInterface
     public interface RegistryReader<T> {
 
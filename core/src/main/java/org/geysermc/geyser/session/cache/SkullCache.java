@@ -25,7 +25,6 @@
 
 package org.geysermc.geyser.session.cache;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +36,7 @@ import org.geysermc.geyser.api.block.custom.CustomBlockState;
 import org.geysermc.geyser.entity.VanillaEntities;
 import org.geysermc.geyser.entity.spawn.EntitySpawnContext;
 import org.geysermc.geyser.entity.type.player.SkullPlayerEntity;
+import org.geysermc.geyser.level.BlockPositionIndex;
 import org.geysermc.geyser.level.block.property.Properties;
 import org.geysermc.geyser.level.block.type.BlockState;
 import org.geysermc.geyser.level.block.type.WallSkullBlock;
@@ -51,19 +51,28 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 public class SkullCache {
     private final int maxVisibleSkulls;
     private final boolean cullingEnabled;
 
+    private final int skullRenderDistance;
     private final int skullRenderDistanceSquared;
 
     @Getter
-    private final Map<Vector3i, Skull> skulls = new Object2ObjectOpenHashMap<>();
+    private final BlockPositionIndex<Skull> skulls = new BlockPositionIndex<>();
 
+    /**
+     * The skulls within render distance that are nearest to the player, sorted by distance. This contains at least the
+     * nearest {@code maxVisibleSkulls + 1} skulls (if there are that many), but not necessarily every skull in range.
+     * Only these can have an entity assigned.
+     */
     private final List<Skull> inRangeSkulls = new ArrayList<>();
+    /**
+     * Reused to remember which skulls were in range before they are looked up again.
+     */
+    private final List<Skull> previousInRangeSkulls = new ArrayList<>();
 
     private int totalSkullEntities = 0;
 
@@ -77,8 +86,8 @@ public class SkullCache {
         this.cullingEnabled = this.maxVisibleSkulls != -1;
 
         // Normal skulls are not rendered beyond 64 blocks
-        int distance = Math.min(session.getGeyser().config().gameplay().customSkullRenderDistance(), 64);
-        this.skullRenderDistanceSquared = distance * distance;
+        this.skullRenderDistance = Math.min(session.getGeyser().config().gameplay().customSkullRenderDistance(), 64);
+        this.skullRenderDistanceSquared = skullRenderDistance * skullRenderDistance;
     }
 
     public @Nullable Skull putSkull(Vector3i position, GameProfile resolved, BlockState blockState) {
@@ -160,33 +169,68 @@ public class SkullCache {
             if (lastPlayerPosition != null && session.getPlayerEntity().position().distanceSquared(lastPlayerPosition) < 4) {
                 return;
             }
-            lastPlayerPosition = session.getPlayerEntity().position();
+            Vector3f position = session.getPlayerEntity().position();
+            lastPlayerPosition = position;
 
-            inRangeSkulls.clear();
-            for (Skull skull : skulls.values()) {
-                if (skull.blockDefinition != null) {
-                    continue;
-                }
+            previousInRangeSkulls.clear();
+            previousInRangeSkulls.addAll(inRangeSkulls);
+            findNearestSkulls(position);
 
-                skull.distanceSquared = skull.position.distanceSquared(lastPlayerPosition.getX(), lastPlayerPosition.getY(), lastPlayerPosition.getZ());
-                if (skull.distanceSquared > skullRenderDistanceSquared) {
+            // Only skulls that were in range can have an entity, so only those can need to lose it
+            int visible = Math.min(inRangeSkulls.size(), maxVisibleSkulls);
+            for (int i = 0; i < visible; i++) {
+                inRangeSkulls.get(i).visible = true;
+            }
+            for (Skull skull : previousInRangeSkulls) {
+                if (!skull.visible) {
                     freeSkullEntity(skull);
-                } else {
-                    inRangeSkulls.add(skull);
                 }
             }
-            inRangeSkulls.sort(Comparator.comparingInt(Skull::getDistanceSquared));
+            previousInRangeSkulls.clear();
 
             for (int i = inRangeSkulls.size() - 1; i >= 0; i--) {
-                if (i < maxVisibleSkulls) {
-                    assignSkullEntity(inRangeSkulls.get(i));
+                Skull skull = inRangeSkulls.get(i);
+                if (skull.visible) {
+                    assignSkullEntity(skull);
+                    skull.visible = false;
                 } else {
-                    freeSkullEntity(inRangeSkulls.get(i));
+                    freeSkullEntity(skull);
                 }
             }
         }
     }
 
+    /**
+     * Fills {@link #inRangeSkulls} with the nearest skulls, by visiting the chunks around the player from the inside out
+     * until no further chunk can have a skull nearer than the ones already found.
+     */
+    private void findNearestSkulls(Vector3f position) {
+        inRangeSkulls.clear();
+        int wanted = maxVisibleSkulls + 1;
+        int maxRing = (skullRenderDistance >> 4) + 1;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (inRangeSkulls.size() >= wanted) {
+                int minDistance = Math.max(0, (ring - 1) << 4);
+                if (minDistance * minDistance > inRangeSkulls.get(wanted - 1).distanceSquared) {
+                    break;
+                }
+            }
+
+            skulls.forEachInRing(position.getX(), position.getZ(), ring, skull -> {
+                if (skull.blockDefinition != null) {
+                    return;
+                }
+
+                skull.distanceSquared = skull.position.distanceSquared(position.getX(), position.getY(), position.getZ());
+                if (skull.distanceSquared <= skullRenderDistanceSquared) {
+                    inRangeSkulls.add(skull);
+                }
+            });
+            // Only the skulls found so far, which are few in all but the last ring visited
+            inRangeSkulls.sort(Comparator.comparingInt(Skull::getDistanceSquared));
+        }
+    }
+
     private void assignSkullEntity(Skull skull) {
         if (skull.entity != null) {
             return;
@@ -218,6 +262,10 @@ public class SkullCache {
                 // Reassign entity to the closest skull without an entity
                 assignSkullEntity(inRangeSkulls.get(maxVisibleSkulls - 1));
             }
+            if (inRangeSkulls.size() <= maxVisibleSkulls) {
+                // Skulls further away weren't looked up; do so on the next movement
+                lastPlayerPosition = null;
+            }
         }
     }
 
@@ -265,5 +313,9 @@ public class SkullCache {
 
         private final Vector3i position;
         private int distanceSquared;
+        /**
+         * Only used while updating which skulls are visible.
+         */
+        private boolean visible;
     }
 }
@@ -25,7 +25,8 @@
 
 package org.geysermc.geyser.session.cache;
 
-import it.unimi.dsi.fastutil.ints.IntArrays;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.kyori.adventure.key.Key;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -36,11 +37,13 @@ import org.geysermc.geyser.session.cache.registry.JavaRegistries;
 import org.geysermc.geyser.session.cache.registry.JavaRegistryKey;
 import org.geysermc.geyser.session.cache.tags.GeyserHolderSet;
 import org.geysermc.geyser.session.cache.tags.Tag;
+import org.geysermc.geyser.session.cache.tags.TagMembers;
 import org.geysermc.geyser.util.MinecraftKey;
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.HolderSet;
 import org.geysermc.mcprotocollib.protocol.packet.common.clientbound.ClientboundUpdateTagsPacket;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -60,10 +63,19 @@ import java.util.Map;
  *     <li>{@link org.geysermc.geyser.inventory.GeyserItemStack#is(GeyserSession, HolderSet)}</li>
  *     <li>{@link GeyserHolderSet#contains(GeyserSession, Object)}</li>
  * </ul>
+ *
+ * <p>Sessions connected to the same server are sent the same tags, so tags are interned: all of those sessions share one
+ * tag table.</p>
  */
 public final class TagCache {
+    private static final Interner<TagMembers> SHARED_MEMBERS = Interners.newWeakInterner();
+    private static final Interner<TagTable> SHARED_TABLES = Interners.newWeakInterner();
+
     private final GeyserSession session;
-    private final Map<Tag<?>, int[]> tags = new Object2ObjectOpenHashMap<>();
+    /**
+     * Shared with other sessions. Kept as the table, not just its tags, so it stays interned while in use.
+     */
+    private TagTable table = new TagTable(Map.of());
 
     public TagCache(GeyserSession session) {
         this.session = session;
@@ -73,7 +85,7 @@ public final class TagCache {
         Map<Key, Map<Key, int[]>> allTags = packet.getTags();
         GeyserLogger logger = session.getGeyser().getLogger();
 
-        this.tags.clear();
+        Map<Tag<?>, TagMembers> tags = new Object2ObjectOpenHashMap<>();
 
         for (Key registryKey : allTags.keySet()) {
             JavaRegistryKey<?> registry = JavaRegistries.fromKey(registryKey);
@@ -102,18 +114,20 @@ public final class TagCache {
                 }
             }
 
-            loadTags(registryTags, registry, registry == JavaRegistries.ITEM);
+            loadTags(tags, registryTags, registry, registry == JavaRegistries.ITEM);
         }
+
+        this.table = SHARED_TABLES.intern(new TagTable(Collections.unmodifiableMap(tags)));
     }
 
-    private void loadTags(Map<Key, int[]> packetTags, JavaRegistryKey<?> registry, boolean sort) {
+    private static void loadTags(Map<Tag<?>, TagMembers> tags, Map<Key, int[]> packetTags, JavaRegistryKey<?> registry, boolean sort) {
         for (Map.Entry<Key, int[]> tag : packetTags.entrySet()) {
             int[] value = tag.getValue();
             if (sort) {
                 // Used in RecipeBookAddTranslator
                 Arrays.sort(value);
             }
-            this.tags.put(new Tag<>(registry, tag.getKey()), value);
+            tags.put(new Tag<>(registry, tag.getKey()), SHARED_MEMBERS.intern(new TagMembers(value)));
         }
     }
 
@@ -121,11 +135,11 @@ public final class TagCache {
      * Should only be used when the network ID of an element is already known. If not, prefer using the {@link TagCache#is(Tag, Object)} shorthand method.
      */
     public boolean is(@NonNull Tag<?> tag, int id) {
-        return contains(getRaw(tag), id);
+        return getMembers(tag).contains(id);
     }
 
     public <T> boolean is(@NonNull Tag<T> tag, @NonNull T object) {
-        return contains(getRaw(tag), tag.registry().networkId(session, object));
+        return getMembers(tag).contains(tag.registry().networkId(session, object));
     }
 
     /**
@@ -137,7 +151,11 @@ public final class TagCache {
         if (object == null) {
             return false;
         }
-        return contains(holderSet.resolveRaw(this), holderSet.getRegistry().networkId(session, object));
+        int id = holderSet.getRegistry().networkId(session, object);
+        if (holderSet.getHolders() == null && holderSet.getInline() == null && holderSet.getTag() != null) {
+            return getMembers(holderSet.getTag()).contains(id);
+        }
+        return contains(holderSet.resolveRaw(this), id);
     }
 
     /**
@@ -148,16 +166,17 @@ public final class TagCache {
             return false;
         }
 
-        int[] entries = holderSet.resolve(key -> {
+        Key key = holderSet.getLocation();
+        if (key != null) {
             // This should never happen, since a key in a HolderSet is always a tag
             // We check for it anyway
             if (key.value().startsWith("#")) {
                 key = Key.key(key.namespace(), key.value().substring(1));
             }
-            return getRaw(new Tag<>(registry, key));
-        });
+            return getMembers(new Tag<>(registry, key)).contains(id);
+        }
 
-        return contains(entries, id);
+        return contains(holderSet.getHolders(), id);
     }
 
     public <T> List<T> get(@NonNull Tag<T> tag) {
@@ -165,10 +184,14 @@ public final class TagCache {
     }
 
     /**
-     * @return the network IDs in the given tag. This can be an empty array.
+     * @return the network IDs in the given tag. This can be an empty array, and must not be modified.
      */
     public int[] getRaw(@NonNull Tag<?> tag) {
-        return this.tags.getOrDefault(tag, IntArrays.EMPTY_ARRAY);
+        return getMembers(tag).values();
+    }
+
+    public TagMembers getMembers(@NonNull Tag<?> tag) {
+        return this.table.tags().getOrDefault(tag, TagMembers.EMPTY);
     }
 
     /**
@@ -178,7 +201,10 @@ public final class TagCache {
         return Arrays.stream(array).mapToObj(i -> registry.value(session, i)).toList();
     }
 
-    private static boolean contains(int[] array, int i) {
+    private static boolean contains(int @Nullable [] array, int i) {
+        if (array == null) {
+            return false;
+        }
         for (int item : array) {
             if (item == i) {
                 return true;
@@ -186,4 +212,23 @@ public final class TagCache {
         }
         return false;
     }
+
+    /**
+     * @param hash computed once, as hashing every tag of a table is not cheap
+     */
+    private record TagTable(Map<Tag<?>, TagMembers> tags, int hash) {
+        TagTable(Map<Tag<?>, TagMembers> tags) {
+            this(tags, tags.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof TagTable other && hash == other.hash && tags.equals(other.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache.tags;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * The network IDs in a tag. Keeps them in the order they were sent in, and as a bitset for constant-time lookups;
+ * network IDs are usually small, so the bitset is too. A server can still send large IDs, in which case a sorted copy
+ * is searched instead, so a single large ID can't make the bitset take up megabytes.
+ * <p>
+ * Equal by content, so that identical tags sent to different sessions can be shared.
+ */
+public final class TagMembers {
+    public static final TagMembers EMPTY = new TagMembers(IntArrays.EMPTY_ARRAY);
+    /**
+     * A bitset of this many words is always fine; it covers IDs up to 4095.
+     */
+    private static final int MIN_BITSET_WORDS = 64;
+
+    private final int[] values;
+    private final long @Nullable [] bits;
+    private final int @Nullable [] sorted;
+    private final int hash;
+
+    public TagMembers(int[] values) {
+        this.values = values;
+        int max = -1;
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        int words = (max >> 6) + 1;
+        if (words <= Math.max(MIN_BITSET_WORDS, values.length)) {
+            // Past the minimum, no more than twice the size of a sorted array
+            this.bits = new long[words];
+            for (int value : values) {
+                if (value >= 0) {
+                    bits[value >> 6] |= 1L << value;
+                }
+            }
+            this.sorted = null;
+        } else {
+            this.bits = null;
+            this.sorted = values.clone();
+            Arrays.sort(sorted);
+        }
+        this.hash = Arrays.hashCode(values);
+    }
+
+    public boolean contains(int id) {
+        if (id < 0) {
+            return false;
+        }
+        if (bits == null) {
+            return Arrays.binarySearch(sorted, id) >= 0;
+        }
+        int index = id >> 6;
+        return index < bits.length && (bits[index] & (1L << id)) != 0;
+    }
+
+    /**
+     * @return the network IDs in this tag. Shared between sessions, so must not be modified.
+     */
+    public int[] values() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof TagMembers other && hash == other.hash && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.skin;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.protocol.bedrock.data.skin.SerializedSkin;
+import org.geysermc.geyser.api.skin.SkinData;
+import org.geysermc.geyser.entity.type.player.AvatarEntity;
+import org.geysermc.geyser.session.GeyserSession;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * When enabled, player list entries are sent with one of the default skins, and the real skin of a player is only sent
+ * once they are spawned in for the Bedrock client. Real skins are sent over multiple ticks if needed, so a lot of players
+ * coming into view at once doesn't flood the connection.
+ * <p>
+ * Must only be used from the session event loop.
+ */
+public final class SkinDeliveryQueue {
+    private final GeyserSession session;
+    private final int maxBytesPerTick;
+
+    /**
+     * Skins waiting to be sent, oldest first. Only the newest skin of each player is kept.
+     */
+    private final Map<UUID, Pending> pending = new Object2ObjectLinkedOpenHashMap<>();
+    /**
+     * Players whose real skin has been sent to the client.
+     */
+    private final Set<UUID> delivered = new ObjectOpenHashSet<>();
+    private int budget;
+
+    public SkinDeliveryQueue(GeyserSession session) {
+        this.session = session;
+        this.maxBytesPerTick = session.getGeyser().config().advanced().maxSkinBytesPerTick();
+        this.budget = maxBytesPerTick;
+    }
+
+    public boolean isEnabled() {
+        return maxBytesPerTick > 0;
+    }
+
+    /**
+     * @return the skin a player list entry for this player should use instead of their own, or null if their skin
+     * should be sent as usual
+     */
+    public @Nullable SerializedSkin placeholderFor(AvatarEntity entity) {
+        if (!isEnabled() || isSelf(entity) || delivered.contains(entity.uuid())) {
+            return null;
+        }
+        return SkinManager.buildPlaceholderSkin(session, ProvidedSkins.getDefaultPlayerSkin(entity.uuid()));
+    }
+
+    /**
+     * @return whether the skin of this entity does not need to be requested yet, as it isn't visible to the client
+     */
+    public boolean shouldDefer(AvatarEntity entity) {
+        return isEnabled() && !isSelf(entity) && !entity.isValid();
+    }
+
+    /**
+     * Sends the skin right away if lazy skins are disabled, otherwise queues it to be sent within the budget.
+     */
+    public void send(AvatarEntity entity, SkinData skinData) {
+        if (!isEnabled() || isSelf(entity)) {
+            SkinManager.sendSkinPacket(session, entity, skinData);
+            return;
+        }
+        pending.put(entity.uuid(), new Pending(entity, skinData));
+    }
+
+    /**
+     * Forgets everything about this player, for when they are removed from the player list.
+     */
+    public void remove(UUID uuid) {
+        pending.remove(uuid);
+        delivered.remove(uuid);
+    }
+
+    public void tick() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        // Large skins may have put us in debt; that is paid off before sending more
+        budget = Math.min(budget + maxBytesPerTick, maxBytesPerTick);
+        var iterator = pending.values().iterator();
+        while (budget > 0 && iterator.hasNext()) {
+            Pending next = iterator.next();
+            iterator.remove();
+            if (!next.entity.isValid()) {
+                // Despawned in the meantime; the skin will be requested again when it is spawned
+                continue;
+            }
+
+            SkinManager.sendSkinPacket(session, next.entity, next.skinData);
+            delivered.add(next.entity.uuid());
+            budget -= size(next.skinData);
+        }
+    }
+
+    private boolean isSelf(AvatarEntity entity) {
+        return entity.uuid().equals(session.getPlayerEntity().uuid());
+    }
+
+    private static int size(SkinData skinData) {
+        String geometry = skinData.geometry().geometryData();
+        return skinData.skin().skinData().length + skinData.cape().capeData().length
+            + (geometry.isBlank() ? SkinManager.GEOMETRY.length() : geometry.length());
+    }
+
+    private record Pending(AvatarEntity entity, SkinData skinData) {
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.skin;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Stores Bedrock-ready skin and cape images and Mojang profile lookups on disk, so they survive restarts.
+ * <p>
+ * All file access happens on a single background thread, which also owns the index. The index is rebuilt from the
+ * directory on startup; files are touched whenever they are read, so their modification time doubles as the
+ * least-recently-used order. Once the cache grows beyond its size limit, the least recently used entries are deleted.
+ */
+final class SkinDiskCache {
+    /**
+     * Each entry starts with the time it expires at, or 0 if it only expires when it hasn't been used for a while.
+     */
+    private static final int HEADER_SIZE = Long.BYTES;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxUnusedMillis;
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor(new DefaultThreadFactory("Geyser Skin Cache Thread", true));
+
+    /**
+     * File name -> size in bytes, least recently used first. Only touched from the IO thread.
+     */
+    private final Map<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    SkinDiskCache(Path directory, long maxBytes, long maxUnusedMillis) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.maxUnusedMillis = maxUnusedMillis;
+        ioExecutor.execute(this::loadIndex);
+    }
+
+    /**
+     * @return the cached value, or null if it isn't cached or has expired
+     */
+    CompletableFuture<byte @Nullable []> get(String key) {
+        return CompletableFuture.supplyAsync(() -> read(fileName(key)), ioExecutor);
+    }
+
+    /**
+     * @param expiresAfterMillis how long this value is valid for, or 0 if it stays valid until unused for a while
+     */
+    void put(String key, byte[] value, long expiresAfterMillis) {
+        long expiresAt = expiresAfterMillis == 0 ? 0 : System.currentTimeMillis() + expiresAfterMillis;
+        ioExecutor.execute(() -> write(fileName(key), value, expiresAt));
+    }
+
+    /**
+     * Deletes everything that hasn't been used for longer than configured.
+     */
+    void removeUnused() {
+        ioExecutor.execute(() -> {
+            long cutoff = System.currentTimeMillis() - maxUnusedMillis;
+            int count = 0;
+            // Least recently used first, so we can stop at the first one that has been used recently
+            Iterator<Map.Entry<String, Long>> iterator = index.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                Path file = directory.resolve(entry.getKey());
+                if (lastModified(file) >= cutoff) {
+                    break;
+                }
+                totalBytes -= entry.getValue();
+                iterator.remove();
+                delete(file);
+                count++;
+            }
+
+            if (count > 0) {
+                GeyserImpl.getInstance().getLogger().debug(String.format("Removed %d cached skin files as they have expired", count));
+            }
+        });
+    }
+
+    void shutdown() {
+        // Lets pending writes finish
+        ioExecutor.shutdown();
+    }
+
+    private void loadIndex() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                List<Path> sorted = files
+                    .filter(file -> file.getFileName().toString().endsWith(".bin"))
+                    .sorted(Comparator.comparingLong(SkinDiskCache::lastModified))
+                    .toList();
+                for (Path file : sorted) {
+                    long size = Files.size(file);
+                    index.put(file.getFileName().toString(), size);
+                    totalBytes += size;
+                }
+            }
+            GeyserImpl.getInstance().getLogger().debug("Loaded " + index.size() + " cached skin files (" + (totalBytes / 1024) + " KiB)");
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().error("Failed to load the skin cache from " + directory, e);
+        }
+        evict();
+    }
+
+    private byte @Nullable [] read(String fileName) {
+        if (index.get(fileName) == null) {
+            return null;
+        }
+
+        Path file = directory.resolve(fileName);
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            long expiresAt = buffer.getLong();
+            if (expiresAt != 0 && expiresAt < System.currentTimeMillis()) {
+                remove(fileName);
+                return null;
+            }
+
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            byte[] value = new byte[buffer.remaining()];
+            buffer.get(value);
+            return value;
+        } catch (Exception e) {
+            GeyserImpl.getInstance().getLogger().debug("Unable to read cached skin file " + file + ": " + e);
+            remove(fileName);
+            return null;
+        }
+    }
+
+    private void write(String fileName, byte[] value, long expiresAt) {
+        Path file = directory.resolve(fileName);
+        try {
+            Files.createDirectories(directory);
+            Path temp = directory.resolve(fileName + ".tmp");
+            Files.write(temp, ByteBuffer.allocate(HEADER_SIZE + value.length).putLong(expiresAt).put(value).array());
+            // So a crash never leaves a half written entry behind
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().debug("Unable to write cached skin file " + file + ": " + e);
+            return;
+        }
+
+        long size = HEADER_SIZE + value.length;
+        Long previous = index.put(fileName, size);
+        totalBytes += size - (previous == null ? 0 : previous);
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = index.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            delete(directory.resolve(eldest.getKey()));
+        }
+    }
+
+    private void remove(String fileName) {
+        Long size = index.remove(fileName);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        delete(directory.resolve(fileName));
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String fileName(String key) {
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + ".bin";
+    }
+}
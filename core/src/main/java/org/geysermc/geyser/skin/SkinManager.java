@@ -58,6 +58,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -67,6 +68,17 @@ public class SkinManager {
     private static final Cache<ResolvableProfile, GameProfile> RESOLVED_PROFILES_CACHE = CacheBuilder.newBuilder()
         .expireAfterAccess(1, TimeUnit.HOURS)
         .build();
+    /**
+     * Serialized skins shared between all sessions, so a skin seen by many players is only built once.
+     */
+    private static final Cache<SerializedSkinKey, SerializedSkin> SERIALIZED_SKINS = CacheBuilder.newBuilder()
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        // Enough for about a thousand regular skins, or a few hundred high resolution ones
+        .maximumWeight(32 * 1024 * 1024)
+        // The skin and cape images, plus the geometry
+        .<SerializedSkinKey, SerializedSkin>weigher((key, skin) -> skin.getSkinData().getImage().length
+            + skin.getCapeData().getImage().length + skin.getGeometryData().length())
+        .build();
     private static final UUID EMPTY_UUID = new UUID(0L, 0L);
     static final String GEOMETRY = new String(FileUtils.readAllBytes("bedrock/geometries/geo.json"), StandardCharsets.UTF_8);
 
@@ -74,6 +86,19 @@ public class SkinManager {
      * Builds a Bedrock player list entry from our existing, cached Bedrock skin information
      */
     public static PlayerListPacket.Entry buildEntryFromCachedSkin(GeyserSession session, AvatarEntity playerEntity) {
+        SerializedSkin placeholder = session.getSkinDeliveryQueue().placeholderFor(playerEntity);
+        if (placeholder != null) {
+            // The real skin will be sent once this player is actually visible
+            return PlayerListUtils.buildEntryManually(
+                    session,
+                    playerEntity.uuid(),
+                    playerEntity.getUsername(),
+                    playerEntity.geyserId(),
+                    placeholder,
+                    session.getWaypointCache().getWaypointColor(playerEntity.uuid()).orElse(Color.WHITE)
+            );
+        }
+
         // First: see if we have the cached skin texture ID.
         GameProfileData data = GameProfileData.from(playerEntity);
         Skin skin = null;
@@ -142,7 +167,26 @@ public class SkinManager {
         }
     }
 
+    /**
+     * Builds a skin for player list entries of players whose real skin has not been sent yet. There are only a few
+     * default skins, so a full player list of these compresses to almost nothing.
+     */
+    static SerializedSkin buildPlaceholderSkin(GeyserSession session, ProvidedSkins.ProvidedSkin provided) {
+        Skin skin = provided.getData();
+        return getSkin(session, skin.textureUrl(), skin, SkinProvider.EMPTY_CAPE, provided.isSlim() ? SkinGeometry.SLIM : SkinGeometry.WIDE);
+    }
+
     private static SerializedSkin getSkin(GeyserSession session, String skinId, Skin skin, Cape cape, SkinGeometry geometry) {
+        String engineVersion = session.getClientData().getGameVersion();
+        try {
+            return SERIALIZED_SKINS.get(new SerializedSkinKey(skinId, skin, cape, geometry, engineVersion),
+                () -> buildSkin(skinId, skin, cape, geometry, engineVersion));
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static SerializedSkin buildSkin(String skinId, Skin skin, Cape cape, SkinGeometry geometry, String engineVersion) {
         return SerializedSkin.builder()
             .skinId(skinId)
             .skinResourcePatch(geometry.geometryName())
@@ -152,7 +196,7 @@ public class SkinManager {
             .premium(true)
             .capeId(cape.capeId())
             .fullSkinId(skinId)
-            .geometryDataEngineVersion(session.getClientData().getGameVersion())
+            .geometryDataEngineVersion(engineVersion)
             .overridingPlayerAppearance(true)
             .color(new Color(0, true))
             .trusted(true)
@@ -222,9 +266,22 @@ public class SkinManager {
     }
 
     public static void requestAndHandleSkinAndCape(AvatarEntity entity, GeyserSession session, Consumer<SkinProvider.SkinAndCape> skinAndCapeConsumer) {
+        SkinDeliveryQueue deliveryQueue = session.getSkinDeliveryQueue();
+        if (deliveryQueue.shouldDefer(entity)) {
+            // Requested once the player is spawned in
+            if (skinAndCapeConsumer != null) {
+                skinAndCapeConsumer.accept(null);
+            }
+            return;
+        }
+
         SkinProvider.requestSkinData(entity, session).whenCompleteAsync((skinData, throwable) -> {
             if (skinData != null && skinData.geometry() != null) {
-                sendSkinPacket(session, entity, skinData);
+                if (deliveryQueue.isEnabled()) {
+                    session.ensureInEventLoop(() -> deliveryQueue.send(entity, skinData));
+                } else {
+                    sendSkinPacket(session, entity, skinData);
+                }
             }
 
             if (skinAndCapeConsumer != null) {
@@ -266,6 +323,13 @@ public class SkinManager {
         return UUID.nameUUIDFromBytes(("OfflinePlayer:" + username).getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * Skins and capes are records holding their image data, which compare by reference here. That is fine, as the
+     * same skin is handed out from the skin caches.
+     */
+    private record SerializedSkinKey(String skinId, Skin skin, Cape cape, SkinGeometry geometry, String engineVersion) {
+    }
+
     public record GameProfileData(String skinUrl, String capeUrl, boolean isSlim) {
         /**
          * Generate the GameProfileData from the given player entity
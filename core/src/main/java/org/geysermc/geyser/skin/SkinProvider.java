@@ -46,18 +46,21 @@ import org.geysermc.geyser.entity.type.player.AvatarEntity;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.GeyserLocale;
 import org.geysermc.geyser.util.FileUtils;
+import org.geysermc.geyser.util.SharedHttpClient;
 import org.geysermc.geyser.util.WebUtils;
 
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Base64;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -66,10 +69,18 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public class SkinProvider {
     private static ExecutorService EXECUTOR_SERVICE;
+    private static @Nullable SkinDiskCache DISK_CACHE;
+
+    /**
+     * How long Mojang profile lookups are kept on disk. Unlike textures, these can change.
+     */
+    private static final long PROFILE_CACHE_TIME = TimeUnit.HOURS.toMillis(6);
 
     static final Skin EMPTY_SKIN;
     static final Cape EMPTY_CAPE = new Cape("", "no-cape", ByteArrays.EMPTY_ARRAY, true);
@@ -159,7 +170,8 @@ public class SkinProvider {
 
     public static ExecutorService getExecutorService() {
         if (EXECUTOR_SERVICE == null) {
-            EXECUTOR_SERVICE = Executors.newFixedThreadPool(14);
+            // Nearly all the work is waiting on web requests, which are limited per host by SharedHttpClient
+            EXECUTOR_SERVICE = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Geyser Skin Thread-", 0).factory());
         }
         return EXECUTOR_SERVICE;
     }
@@ -169,32 +181,49 @@ public class SkinProvider {
             EXECUTOR_SERVICE.shutdown();
             EXECUTOR_SERVICE = null;
         }
+        if (DISK_CACHE != null) {
+            DISK_CACHE.shutdown();
+            DISK_CACHE = null;
+        }
     }
 
     public static void registerCacheImageTask(GeyserImpl geyser) {
+        if (DISK_CACHE != null) {
+            DISK_CACHE.shutdown();
+            DISK_CACHE = null;
+        }
+
         // Schedule Daily Image Expiry if we are caching them
-        if (geyser.config().advanced().cacheImages() > 0) {
-            geyser.getScheduledThread().scheduleAtFixedRate(() -> {
-                File cacheFolder = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("images").toFile();
-                if (!cacheFolder.exists()) {
-                    return;
-                }
+        int days = geyser.config().advanced().cacheImages();
+        if (days > 0) {
+            Path cacheFolder = geyser.getBootstrap().getConfigFolder().resolve("cache");
+            File legacyFolder = cacheFolder.resolve("images").toFile();
+            if (legacyFolder.isDirectory()) {
+                geyser.getScheduledThread().execute(() -> deleteLegacyImageCache(legacyFolder));
+            }
 
-                int count = 0;
-                final long expireTime = ((long) GeyserImpl.getInstance().config().advanced().cacheImages()) * ((long)1000 * 60 * 60 * 24);
-                for (File imageFile : Objects.requireNonNull(cacheFolder.listFiles())) {
-                    if (imageFile.lastModified() < System.currentTimeMillis() - expireTime) {
-                        //noinspection ResultOfMethodCallIgnored
-                        imageFile.delete();
-                        count++;
-                    }
-                }
+            SkinDiskCache diskCache = new SkinDiskCache(cacheFolder.resolve("skins"),
+                geyser.config().advanced().cacheImagesMaxSize() * 1024L * 1024L, TimeUnit.DAYS.toMillis(days));
+            DISK_CACHE = diskCache;
+            geyser.getScheduledThread().scheduleAtFixedRate(diskCache::removeUnused, 10, 1, TimeUnit.DAYS);
+        }
+    }
 
-                if (count > 0) {
-                    GeyserImpl.getInstance().getLogger().debug(String.format("Removed %d cached image files as they have expired", count));
-                }
-            }, 10, 1, TimeUnit.DAYS);
+    /**
+     * Images used to be cached as PNGs, which had to be decoded and converted again every time. Their folder is removed
+     * once the new cache replaces it.
+     */
+    private static void deleteLegacyImageCache(File folder) {
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
         }
+        //noinspection ResultOfMethodCallIgnored
+        folder.delete();
     }
 
     /**
@@ -348,14 +377,14 @@ public class SkinProvider {
 
         CompletableFuture<Skin> future;
         if (newThread) {
-            future = CompletableFuture.supplyAsync(() -> supplySkin(playerId, textureUrl), getExecutorService())
+            future = supplySkin(playerId, textureUrl)
                     .whenCompleteAsync((skin, throwable) -> {
                         CACHED_JAVA_SKINS.put(textureUrl, skin);
                         requestedSkins.remove(textureUrl);
                     });
             requestedSkins.put(textureUrl, future);
         } else {
-            Skin skin = supplySkin(playerId, textureUrl);
+            Skin skin = supplySkin(playerId, textureUrl).join();
             future = CompletableFuture.completedFuture(skin);
             CACHED_JAVA_SKINS.put(textureUrl, skin);
         }
@@ -376,14 +405,14 @@ public class SkinProvider {
 
         CompletableFuture<Cape> future;
         if (newThread) {
-            future = CompletableFuture.supplyAsync(() -> supplyCape(capeUrl), getExecutorService())
+            future = supplyCape(capeUrl)
                     .whenCompleteAsync((cape, throwable) -> {
                         CACHED_JAVA_CAPES.put(capeUrl, cape);
                         requestedCapes.remove(capeUrl);
                     });
             requestedCapes.put(capeUrl, future);
         } else {
-            Cape cape = supplyCape(capeUrl); // blocking
+            Cape cape = supplyCape(capeUrl).join(); // blocking
             future = CompletableFuture.completedFuture(cape);
             CACHED_JAVA_CAPES.put(capeUrl, cape);
         }
@@ -405,62 +434,35 @@ public class SkinProvider {
         cachedGeometry.put(playerID, geometry);
     }
 
-    private static Skin supplySkin(UUID uuid, String textureUrl) {
-        try {
-            byte[] skin = requestImageData(textureUrl, false);
-            return new Skin(textureUrl, skin);
-        } catch (Exception ignored) {} // just ignore I guess
-
-        return new Skin("empty", EMPTY_SKIN.skinData(), true);
+    private static CompletableFuture<Skin> supplySkin(UUID uuid, String textureUrl) {
+        return requestImageData(textureUrl, false).handle((skin, throwable) -> {
+            if (throwable == null) {
+                return new Skin(textureUrl, skin);
+            }
+            // just ignore I guess
+            return new Skin("empty", EMPTY_SKIN.skinData(), true);
+        });
     }
 
-    private static Cape supplyCape(String capeUrl) {
-        byte[] cape = EMPTY_CAPE.capeData();
-        try {
-            cape = requestImageData(capeUrl, true);
-        } catch (Exception ignored) {
-        } // just ignore I guess
+    private static CompletableFuture<Cape> supplyCape(String capeUrl) {
+        return requestImageData(capeUrl, true).handle((data, throwable) -> {
+            // just ignore I guess
+            byte[] cape = throwable == null ? data : EMPTY_CAPE.capeData();
 
-        String[] urlSection = capeUrl.split("/"); // A real url is expected at this stage
+            String[] urlSection = capeUrl.split("/"); // A real url is expected at this stage
 
-        return new Cape(
-                capeUrl,
-                urlSection[urlSection.length - 1], // get the texture id and use it as cape id
-                cape,
-                cape.length == 0
-        );
+            return new Cape(
+                    capeUrl,
+                    urlSection[urlSection.length - 1], // get the texture id and use it as cape id
+                    cape,
+                    cape.length == 0
+            );
+        });
     }
 
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     public static BufferedImage requestImage(String imageUrl, boolean isCape) throws IOException {
-        BufferedImage image = null;
-
-        // First see if we have a cached file. We also update the modification stamp so we know when the file was last used
-        File imageFile = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("images").resolve(UUID.nameUUIDFromBytes(imageUrl.getBytes()) + ".png").toFile();
-        if (imageFile.exists()) {
-            try {
-                GeyserImpl.getInstance().getLogger().debug("Reading cached image from file " + imageFile.getPath() + " for " + imageUrl);
-                imageFile.setLastModified(System.currentTimeMillis());
-                image = ImageIO.read(imageFile);
-            } catch (IOException ignored) {}
-        }
-
-        // If no image we download it
-        if (image == null) {
-            image = downloadImage(imageUrl);
-            GeyserImpl.getInstance().getLogger().debug("Downloaded " + imageUrl);
-
-            // Write to cache if we are allowed
-            if (GeyserImpl.getInstance().config().advanced().cacheImages() > 0) {
-                imageFile.getParentFile().mkdirs();
-                try {
-                    ImageIO.write(image, "png", imageFile);
-                    GeyserImpl.getInstance().getLogger().debug("Writing cached skin to file " + imageFile.getPath() + " for " + imageUrl);
-                } catch (IOException e) {
-                    GeyserImpl.getInstance().getLogger().error("Failed to write cached skin to file " + imageFile.getPath() + " for " + imageUrl);
-                }
-            }
-        }
+        BufferedImage image = downloadImage(imageUrl);
+        GeyserImpl.getInstance().getLogger().debug("Downloaded " + imageUrl);
 
         // if the requested image is a cape
         if (isCape) {
@@ -502,11 +504,60 @@ public class SkinProvider {
         return image;
     }
 
-    private static byte[] requestImageData(String imageUrl, boolean isCape) throws Exception {
-        BufferedImage image = requestImage(imageUrl, isCape);
-        byte[] data = bufferedImageToImageData(image);
-        image.flush();
-        return data;
+    private static CompletableFuture<byte[]> requestImageData(String imageUrl, boolean isCape) {
+        SkinDiskCache diskCache = DISK_CACHE;
+        if (diskCache == null) {
+            return CompletableFuture.supplyAsync(() -> downloadImageData(imageUrl, isCape), getExecutorService());
+        }
+
+        // Texture URLs end in the hash of the texture, so they never change
+        String key = (isCape ? "cape:" : "skin:") + imageUrl;
+        return diskCache.get(key).thenCompose(cached -> {
+            if (cached != null) {
+                GeyserImpl.getInstance().getLogger().debug("Using cached image for " + imageUrl);
+                return CompletableFuture.completedFuture(cached);
+            }
+            // Leave the disk cache's thread before downloading
+            return CompletableFuture.supplyAsync(() -> {
+                byte[] data = downloadImageData(imageUrl, isCape);
+                diskCache.put(key, data, 0);
+                return data;
+            }, getExecutorService());
+        });
+    }
+
+    private static byte[] downloadImageData(String imageUrl, boolean isCape) {
+        try {
+            BufferedImage image = requestImage(imageUrl, isCape);
+            byte[] data = bufferedImageToImageData(image);
+            image.flush();
+            return data;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Runs a Mojang API lookup, unless its result is already cached on disk. Only successful lookups are cached.
+     */
+    private static <T> CompletableFuture<@Nullable T> cachedLookup(String key, Supplier<@Nullable T> lookup,
+                                                                Function<byte[], T> decoder, Function<T, byte[]> encoder) {
+        SkinDiskCache diskCache = DISK_CACHE;
+        if (diskCache == null) {
+            return CompletableFuture.supplyAsync(lookup, getExecutorService());
+        }
+
+        return diskCache.get(key).thenCompose(cached -> {
+            if (cached != null) {
+                return CompletableFuture.completedFuture(decoder.apply(cached));
+            }
+            return CompletableFuture.supplyAsync(lookup, getExecutorService()).thenApply(value -> {
+                if (value != null) {
+                    diskCache.put(key, encoder.apply(value), PROFILE_CACHE_TIME);
+                }
+                return value;
+            });
+        });
     }
 
     public static @Nullable String shorthandUUID(@Nullable UUID uuid) {
@@ -559,7 +610,7 @@ public class SkinProvider {
      * @return a completable UUID of the player
      */
     public static CompletableFuture<@Nullable UUID> requestUUIDFromUsername(String username) {
-        return CompletableFuture.supplyAsync(() -> {
+        return cachedLookup("uuid:" + username.toLowerCase(Locale.ROOT), () -> {
             try {
                 JsonObject node = WebUtils.getJson("https://api.mojang.com/users/profiles/minecraft/" + username);
                 JsonElement id = node.get("id");
@@ -574,7 +625,7 @@ public class SkinProvider {
                 }
                 return null;
             }
-        }, getExecutorService());
+        }, bytes -> UUID.fromString(new String(bytes, StandardCharsets.UTF_8)), uuid -> uuid.toString().getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -584,7 +635,7 @@ public class SkinProvider {
      * @return a completable GameProfile with textures included
      */
     public static CompletableFuture<@Nullable String> requestTexturesFromUUID(UUID uuid) {
-        return CompletableFuture.supplyAsync(() -> {
+        return cachedLookup("textures:" + uuid, () -> {
             try {
                 JsonObject node = WebUtils.getJson("https://sessionserver.mojang.com/session/minecraft/profile/" + shorthandUUID(uuid));
                 JsonArray properties = node.getAsJsonArray("properties");
@@ -600,7 +651,7 @@ public class SkinProvider {
                 }
                 return null;
             }
-        }, getExecutorService());
+        }, bytes -> new String(bytes, StandardCharsets.UTF_8), textures -> textures.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -620,12 +671,7 @@ public class SkinProvider {
     }
 
     private static BufferedImage downloadImage(String imageUrl) throws IOException {
-        HttpURLConnection con = (HttpURLConnection) new URL(imageUrl).openConnection();
-        con.setRequestProperty("User-Agent", WebUtils.getUserAgent());
-        con.setConnectTimeout(10000);
-        con.setReadTimeout(10000);
-
-        BufferedImage image = ImageIO.read(con.getInputStream());
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(SharedHttpClient.get(imageUrl)));
 
         if (image == null) {
             throw new IllegalArgumentException("Failed to read image from: %s".formatted(imageUrl));
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.text;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores the translations of every loaded Java locale.
+ * <p>
+ * Translation keys are shared between all locales: each key is given an index once, and each locale keeps its
+ * translations in an array by that index. Translations that are identical in en_us are not stored again, but marked
+ * as such, since lookups fall back to en_us anyway. If en_us is loaded again with different text, the translations it
+ * no longer matches are stored in the other locales after all.
+ * <p>
+ * Lookups don't lock. Loading a locale publishes a new key index if the locale has keys we haven't seen yet; arrays
+ * of locales loaded before then are simply shorter than the index. Arrays are never modified once published.
+ */
+final class LocaleStore {
+    static final String FALLBACK_LOCALE = "en_us";
+
+    // Rough sizes on a 64-bit JVM with compressed pointers
+    private static final int STRING_BYTES = 40;
+    private static final int ARRAY_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int INDEX_ENTRY_BYTES = 12;
+    /**
+     * Marks a translation that is identical in en_us. Compared by reference, so it can't be mistaken for a translation.
+     */
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static final String SAME_AS_FALLBACK = new String("");
+
+    private volatile Object2IntMap<String> keys = newIndex(0);
+    private final Map<String, String[]> locales = new ConcurrentHashMap<>();
+    /**
+     * Locales as they are passed to lookups (e.g. en_US), so they don't have to be lowercased every time. Replaced
+     * rather than cleared whenever a locale is loaded, so a lookup racing with a load can't add a stale alias to the
+     * new map.
+     */
+    private volatile Map<String, String[]> aliases = new ConcurrentHashMap<>();
+    private volatile String @Nullable [] fallback;
+
+    /**
+     * Stores the translations of a locale, replacing any that were loaded before.
+     *
+     * @param locale the lowercase locale
+     * @return how many translations had to be stored, as they are not identical in en_us
+     */
+    synchronized int put(String locale, Map<String, String> translations) {
+        Object2IntMap<String> keys = this.keys;
+        Object2IntMap<String> newKeys = null;
+        for (String key : translations.keySet()) {
+            if (!keys.containsKey(key)) {
+                if (newKeys == null) {
+                    newKeys = newIndex(keys.size() + translations.size());
+                    newKeys.putAll(keys);
+                }
+                newKeys.put(key, newKeys.size());
+            }
+        }
+        if (newKeys != null) {
+            keys = newKeys;
+            this.keys = newKeys;
+        }
+
+        boolean isFallback = locale.equals(FALLBACK_LOCALE);
+        String[] fallback = isFallback ? null : this.fallback;
+        String[] values = new String[keys.size()];
+        int stored = 0;
+        for (Map.Entry<String, String> entry : translations.entrySet()) {
+            int index = keys.getInt(entry.getKey());
+            String value = entry.getValue();
+            if (fallback != null && index < fallback.length && value.equals(fallback[index])) {
+                values[index] = SAME_AS_FALLBACK;
+                continue;
+            }
+            values[index] = value;
+            stored++;
+        }
+
+        if (isFallback && this.fallback != null) {
+            restoreChangedFallbacks(this.fallback, values);
+        }
+        locales.put(locale, values);
+        if (isFallback) {
+            this.fallback = values;
+        }
+        aliases = new ConcurrentHashMap<>();
+        return stored;
+    }
+
+    /**
+     * Stores the translations that were left out of other locales for being identical in en_us, where en_us now
+     * has a different translation.
+     */
+    private void restoreChangedFallbacks(String[] oldFallback, String[] newFallback) {
+        for (Map.Entry<String, String[]> entry : locales.entrySet()) {
+            String[] values = entry.getValue();
+            String[] restored = null;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == SAME_AS_FALLBACK && (i >= newFallback.length || !oldFallback[i].equals(newFallback[i]))) {
+                    if (restored == null) {
+                        restored = values.clone();
+                    }
+                    restored[i] = oldFallback[i];
+                }
+            }
+            if (restored != null) {
+                entry.setValue(restored);
+            }
+        }
+    }
+
+    /**
+     * @return the translation in the given locale, the en_us translation if it has none, or null
+     */
+    @Nullable String get(String key, String locale) {
+        int index = keys.getInt(key);
+        if (index < 0) {
+            return null;
+        }
+
+        Map<String, String[]> aliases = this.aliases;
+        String[] values = aliases.get(locale);
+        if (values == null) {
+            values = locales.get(locale.toLowerCase(Locale.ROOT));
+            if (values != null) {
+                aliases.put(locale, values);
+            }
+        }
+        if (values != null && index < values.length && values[index] != null && values[index] != SAME_AS_FALLBACK) {
+            return values[index];
+        }
+
+        String[] fallback = this.fallback;
+        return fallback != null && index < fallback.length ? fallback[index] : null;
+    }
+
+    boolean isLoaded(String locale) {
+        return locales.containsKey(locale.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return a rough estimate of how much memory the keys and translations of all locales take up, in bytes
+     */
+    long estimatedBytes() {
+        long bytes = 0;
+        for (String key : keys.keySet()) {
+            bytes += INDEX_ENTRY_BYTES + stringBytes(key);
+        }
+        for (String[] values : locales.values()) {
+            bytes += ARRAY_BYTES + (long) values.length * REFERENCE_BYTES;
+            for (String value : values) {
+                if (value != null && value != SAME_AS_FALLBACK) {
+                    bytes += stringBytes(value);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String string) {
+        // Overestimates strings that only use Latin-1, which take one byte per character
+        return STRING_BYTES + 2L * string.length();
+    }
+
+    private static Object2IntMap<String> newIndex(int expected) {
+        Object2IntMap<String> index = new Object2IntOpenHashMap<>(expected);
+        index.defaultReturnValue(-1);
+        return index;
+    }
+}
@@ -48,7 +48,7 @@ import java.util.Map;
 
 public class MinecraftLocale {
 
-    public static final Map<String, Map<String, String>> LOCALE_MAPPINGS = new HashMap<>();
+    private static final LocaleStore LOCALE_STORE = new LocaleStore();
 
     private static final List<String> REMOVED_KEYS = new ArrayList<>();
     private static final Map<String, String> REPLACED_KEYS = new HashMap<>();
@@ -193,7 +193,11 @@ public class MinecraftLocale {
         }
 
         if (!langMap.isEmpty()) {
-            LOCALE_MAPPINGS.put(lowercaseLocale, langMap);
+            int stored = LOCALE_STORE.put(lowercaseLocale, langMap);
+            if (IN_INSTANCE) {
+                GeyserImpl.getInstance().getLogger().debug("Loaded locale " + lowercaseLocale + " with " + stored + " of " + langMap.size()
+                    + " translations differing from en_us; all locales take up about " + (LOCALE_STORE.estimatedBytes() / 1024) + " KiB");
+            }
             return true;
         } else {
             return false;
@@ -283,18 +287,7 @@ public class MinecraftLocale {
      * @return Translated string or null if it was not found in the given locale
      */
     public static @Nullable String getLocaleStringIfPresent(String messageText, String locale) {
-        Map<String, String> localeStrings = LOCALE_MAPPINGS.get(locale.toLowerCase(Locale.ROOT));
-        if (localeStrings != null) {
-            String translated = localeStrings.get(messageText);
-            if (translated != null) {
-                return translated;
-            }
-        }
-        localeStrings = LOCALE_MAPPINGS.get("en_us");
-        if (localeStrings != null) {
-            return localeStrings.get(messageText);
-        }
-        return null;
+        return LOCALE_STORE.get(messageText, locale);
     }
 
     /**
@@ -304,7 +297,7 @@ public class MinecraftLocale {
      * @return true if the locale has been loaded
      */
     public static boolean isLocaleLoaded(String locale) {
-        return LOCALE_MAPPINGS.containsKey(locale.toLowerCase(Locale.ROOT));
+        return LOCALE_STORE.isLoaded(locale);
     }
 
     /**
@@ -25,23 +25,16 @@
 
 package org.geysermc.geyser.translator.item;
 
-import com.google.common.collect.Multimap;
-import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
-import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import net.kyori.adventure.key.Key;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.data.definitions.ItemDefinition;
-import org.geysermc.geyser.api.predicate.MinecraftPredicate;
-import org.geysermc.geyser.api.predicate.PredicateStrategy;
-import org.geysermc.geyser.api.predicate.context.item.ItemPredicateContext;
-import org.geysermc.geyser.item.GeyserCustomMappingData;
-import org.geysermc.geyser.item.custom.GeyserItemPredicateContext;
+import org.geysermc.geyser.item.custom.CustomItemPredicateTable;
 import org.geysermc.geyser.registry.type.ItemMapping;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentTypes;
 import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
 
-import java.util.Collection;
+import java.util.Map;
 
 /**
  * This is only a separate class for testing purposes so we don't have to load in GeyserImpl in ItemTranslator.
@@ -62,7 +55,7 @@ public final class CustomItemTranslator {
             return null;
         }
 
-        Multimap<Key, GeyserCustomMappingData> allCustomItems = mapping.getCustomItemDefinitions();
+        Map<Key, CustomItemPredicateTable> allCustomItems = mapping.getCustomItemTables();
         if (allCustomItems == null) {
             return null;
         }
@@ -71,46 +64,17 @@ public final class CustomItemTranslator {
         if (itemModel == null) {
             return null;
         }
-        Collection<GeyserCustomMappingData> customItems = allCustomItems.get(itemModel);
+        CustomItemPredicateTable customItems = allCustomItems.get(itemModel);
 
-        if (mapping.isContainsV1Mappings() && customItems.isEmpty()) {
+        if (mapping.isContainsV1Mappings() && customItems == null) {
             // Try looking up vanilla model mappings too, as that's what v1 mappings target
             customItems = allCustomItems.get(mapping.getJavaItem().getComponent(session.getComponentCache(), DataComponentTypes.ITEM_MODEL));
         }
 
-        if (customItems.isEmpty()) {
+        if (customItems == null) {
             return null;
         }
-
-        ItemPredicateContext context = GeyserItemPredicateContext.create(session, stackSize, components);
-
-        // Cache predicate values so they're not recalculated every time when there are multiple item definitions using the same predicates
-        // As with predicate conflict detection, this only works for common predicates that are backed using record classes in the API module, since they work with .equals().
-        // JSON mappings use only these common predicates, extensions may not.
-        Object2BooleanMap<MinecraftPredicate<? super ItemPredicateContext>> calculatedPredicates = new Object2BooleanOpenHashMap<>();
-        for (GeyserCustomMappingData customMapping : customItems) {
-            boolean needsOnlyOneMatch = customMapping.definition().predicateStrategy() == PredicateStrategy.OR;
-            boolean allMatch = true;
-
-            for (MinecraftPredicate<? super ItemPredicateContext> predicate : customMapping.definition().predicates()) {
-                boolean value = calculatedPredicates.computeIfAbsent(predicate, x -> predicate.test(context));
-                if (value) {
-                    if (needsOnlyOneMatch) {
-                        return customMapping.itemDefinition();
-                    }
-                } else {
-                    allMatch = false;
-                    // If we need everything to match, that is no longer possible, so break
-                    if (!needsOnlyOneMatch) {
-                        break;
-                    }
-                }
-            }
-            if (allMatch) {
-                return customMapping.itemDefinition();
-            }
-        }
-        return null;
+        return customItems.lookup(session, stackSize, components);
     }
 
     private CustomItemTranslator() {
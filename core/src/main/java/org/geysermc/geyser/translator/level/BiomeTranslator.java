@@ -25,6 +25,11 @@
 
 package org.geysermc.geyser.translator.level;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.geysermc.geyser.session.cache.registry.JavaRegistries;
 import org.geysermc.geyser.session.cache.registry.JavaRegistry;
 import org.geysermc.geyser.session.cache.registry.RegistryEntryContext;
@@ -43,8 +48,19 @@ import org.geysermc.geyser.level.chunk.bitarray.SingletonBitArray;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.session.GeyserSession;
 
+import java.util.Arrays;
+
 // Array index formula by https://wiki.vg/Chunk_Format
 public class BiomeTranslator {
+    /**
+     * Encoded Bedrock biome storages of sections without the same biome everywhere, shared between all sessions, as
+     * the same biome layouts show up in many sections and for every player nearby. Keyed by the Bedrock biome of each
+     * 4x4x4 cell, which covers both the Java palette and how the session's biome registry maps it.
+     */
+    private static final Cache<BiomeCells, byte[]> ENCODED_BIOMES = CacheBuilder.newBuilder()
+        .maximumSize(2048)
+        .recordStats()
+        .build();
 
     public static int loadServerBiome(RegistryEntryContext entry) {
         String javaIdentifier = entry.id().asString();
@@ -128,6 +144,66 @@ public class BiomeTranslator {
         }
     }
 
+    /**
+     * Writes the Bedrock biome storage of a chunk section, reusing the encoding of an identical section if possible.
+     * Equivalent to {@code toNewBedrockBiome(session, biomeData).writeToNetwork(byteBuf)}.
+     */
+    public static void writeBedrockBiome(GeyserSession session, DataPalette biomeData, ByteBuf byteBuf) {
+        Palette palette = biomeData.getPalette();
+        if (palette instanceof SingletonPalette) {
+            toNewBedrockBiome(session, biomeData).writeToNetwork(byteBuf);
+            return;
+        }
+
+        JavaRegistry<Integer> biomeTranslations = session.getRegistryCache().registry(JavaRegistries.BIOME);
+        BitStorage bitStorage = biomeData.getStorage();
+        int[] cells = new int[64];
+        boolean allSame = true;
+        for (int i = 0; i < 64; i++) {
+            cells[i] = biomeTranslations.byId(palette.idToState(bitStorage.get(i)));
+            allSame &= cells[i] == cells[0];
+        }
+
+        if (allSame) {
+            new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(cells[0])).writeToNetwork(byteBuf);
+            return;
+        }
+
+        BiomeCells key = new BiomeCells(cells);
+        byte[] encoded = ENCODED_BIOMES.getIfPresent(key);
+        if (encoded == null) {
+            encoded = encode(cells);
+            ENCODED_BIOMES.put(key, encoded);
+        }
+        byteBuf.writeBytes(encoded);
+    }
+
+    /**
+     * @return how often encoded biome storages could be reused
+     */
+    public static CacheStats biomeCacheStats() {
+        return ENCODED_BIOMES.stats();
+    }
+
+    private static byte[] encode(int[] cells) {
+        BlockStorage storage = new BlockStorage(cells[0]);
+        for (int i = 0; i < 64; i++) {
+            int idx = storage.idFor(cells[i]);
+            // storage.getBitArray() must be called every time, as the instance changes if the palette grows
+            multiplyIdToStorage(storage.getBitArray(), idx, i & 3, (i >> 4) & 3, (i >> 2) & 3);
+        }
+
+        ByteBuf buffer = Unpooled.buffer(storage.estimateNetworkSize());
+        try {
+            storage.writeToNetwork(buffer);
+            byte[] encoded = new byte[buffer.readableBytes()];
+            buffer.readBytes(encoded);
+            return encoded;
+        } finally {
+            buffer.release();
+        }
+    }
+
     private static void multiplyIdToStorage(final BitArray bitArray, final int idx, final int x, final int y, final int z) {
         for (int blockX = x << 2; blockX < (x << 2) + 4; blockX++) {
             for (int blockZ = z << 2; blockZ < (z << 2) + 4; blockZ++) {
@@ -137,4 +213,24 @@ public class BiomeTranslator {
             }
         }
     }
+
+    /**
+     * The Bedrock biome of each 4x4x4 cell of a section.
+     */
+    private record BiomeCells(int[] biomes, int hash) {
+
+        BiomeCells(int[] biomes) {
+            this(biomes, Arrays.hashCode(biomes));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof BiomeCells other && hash == other.hash && Arrays.equals(biomes, other.biomes));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
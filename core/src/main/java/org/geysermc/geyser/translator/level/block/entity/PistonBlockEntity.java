@@ -38,6 +38,7 @@ import org.cloudburstmc.nbt.NbtMap;
 import org.cloudburstmc.nbt.NbtMapBuilder;
 import org.cloudburstmc.protocol.bedrock.packet.UpdateBlockPacket;
 import org.geysermc.geyser.entity.vehicle.ClientVehicle;
+import org.geysermc.geyser.level.BlockPositionIndex;
 import org.geysermc.geyser.level.block.BlockStateValues;
 import org.geysermc.geyser.level.block.Blocks;
 import org.geysermc.geyser.level.block.property.Properties;
@@ -83,6 +84,11 @@ public class PistonBlockEntity {
 
     private boolean placedFinalBlocks = true;
 
+    /**
+     * The blocks covered by the piston, its head and its attached blocks, from where they start to where they end up
+     */
+    private int minX, minY, minZ, maxX, maxY, maxZ;
+
     /**
      * The position of the piston head
      */
@@ -129,6 +135,7 @@ public class PistonBlockEntity {
             this.progress = 0.0f;
         }
         this.lastProgress = this.progress;
+        updateBounds();
     }
 
     /**
@@ -160,6 +167,7 @@ public class PistonBlockEntity {
             case PULLING, CANCELLED_MID_PUSH -> progress = 1;
         }
         lastProgress = progress;
+        updateBounds();
 
         BlockEntityUtils.updateBlockEntity(session, buildPistonTag(), position);
     }
@@ -190,14 +198,18 @@ public class PistonBlockEntity {
             case PULLING, CANCELLED_MID_PUSH -> progress = 1;
         }
         lastProgress = progress;
+        updateBounds();
 
         BlockEntityUtils.updateBlockEntity(session, buildPistonTag(), position);
     }
 
     /**
      * Update the position of the piston head, moving blocks, and players.
+     *
+     * @param simulate Whether the piston is close enough to push the player. If not, the client is left to animate
+     *                 the piston on its own, and only its final state is sent.
      */
-    public void updateMovement() {
+    public void updateMovement(boolean simulate) {
         if (isDone()) {
             timeSinceCompletion++;
             return;
@@ -205,8 +217,53 @@ public class PistonBlockEntity {
             timeSinceCompletion = 0;
         }
         updateProgress();
-        pushPlayer();
-        BlockEntityUtils.updateBlockEntity(session, buildPistonTag(), position);
+        if (simulate) {
+            pushPlayer();
+            BlockEntityUtils.updateBlockEntity(session, buildPistonTag(), position);
+        } else if (isDone()) {
+            BlockEntityUtils.updateBlockEntity(session, buildPistonTag(), position);
+        }
+    }
+
+    /**
+     * @return whether the given position is within the given distance of any block this piston moves, anywhere along
+     * the movement
+     */
+    public boolean isNear(double x, double y, double z, double distance) {
+        double dx = Math.max(0, Math.max(minX - x, x - (maxX + 1)));
+        double dy = Math.max(0, Math.max(minY - y, y - (maxY + 1)));
+        double dz = Math.max(0, Math.max(minZ - z, z - (maxZ + 1)));
+        return dx * dx + dy * dy + dz * dz <= distance * distance;
+    }
+
+    /**
+     * Computes the blocks covered by this piston's movement, once each time it starts moving
+     */
+    private void updateBounds() {
+        Vector3i headPos = getPistonHeadPos();
+        minX = Math.min(position.getX(), headPos.getX());
+        minY = Math.min(position.getY(), headPos.getY());
+        minZ = Math.min(position.getZ(), headPos.getZ());
+        maxX = Math.max(position.getX(), headPos.getX());
+        maxY = Math.max(position.getY(), headPos.getY());
+        maxZ = Math.max(position.getZ(), headPos.getZ());
+        for (int i = 0; i < flattenedAttachedBlocks.length; i += 3) {
+            minX = Math.min(minX, flattenedAttachedBlocks[i]);
+            minY = Math.min(minY, flattenedAttachedBlocks[i + 1]);
+            minZ = Math.min(minZ, flattenedAttachedBlocks[i + 2]);
+            maxX = Math.max(maxX, flattenedAttachedBlocks[i]);
+            maxY = Math.max(maxY, flattenedAttachedBlocks[i + 1]);
+            maxZ = Math.max(maxZ, flattenedAttachedBlocks[i + 2]);
+        }
+
+        // Everything moves by one block in the same direction
+        Vector3i movement = getMovement();
+        minX += Math.min(movement.getX(), 0);
+        minY += Math.min(movement.getY(), 0);
+        minZ += Math.min(movement.getZ(), 0);
+        maxX += Math.max(movement.getX(), 0);
+        maxY += Math.max(movement.getY(), 0);
+        maxZ += Math.max(movement.getZ(), 0);
     }
 
     /**
@@ -595,7 +652,7 @@ public class PistonBlockEntity {
      */
     private void createMovingBlocks() {
         // Map the final position of each block to this block entity
-        Map<Vector3i, PistonBlockEntity> movingBlockMap = session.getPistonCache().getMovingBlocksMap();
+        BlockPositionIndex<PistonBlockEntity> movingBlockMap = session.getPistonCache().getMovingBlocksMap();
         attachedBlocks.forEach((blockPos, javaId) -> movingBlockMap.put(blockPos, this));
         movingBlockMap.put(getPistonHeadPos(), this);
 
@@ -669,7 +726,7 @@ public class PistonBlockEntity {
      * Remove moving blocks from the piston cache
      */
     private void removeMovingBlocks() {
-        Map<Vector3i, PistonBlockEntity> movingBlockMap = session.getPistonCache().getMovingBlocksMap();
+        BlockPositionIndex<PistonBlockEntity> movingBlockMap = session.getPistonCache().getMovingBlocksMap();
         attachedBlocks.forEach((blockPos, javaId) -> movingBlockMap.remove(blockPos));
         attachedBlocks.clear();
         movingBlockMap.remove(getPistonHeadPos());
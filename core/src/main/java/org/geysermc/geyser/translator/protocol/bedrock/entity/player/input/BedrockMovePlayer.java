@@ -36,6 +36,7 @@ import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
 import org.geysermc.geyser.level.physics.BoundingBox;
 import org.geysermc.geyser.level.physics.CollisionResult;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.AuthInputFlags;
 import org.geysermc.geyser.text.ChatColor;
 import org.geysermc.geyser.util.MathUtils;
 import org.geysermc.mcprotocollib.network.packet.Packet;
@@ -52,6 +53,7 @@ final class BedrockMovePlayer {
     static void translate(GeyserSession session, PlayerAuthInputPacket packet) {
         SessionPlayerEntity entity = session.getPlayerEntity();
         if (!session.isSpawned()) return;
+        AuthInputFlags inputFlags = session.getInputCache().getInputFlags();
 
         // We need to save player interact rotation value, as this rotation is used for Touch device and indicate where the player is touching.
         // This is needed so that we can interact with where player actually touch on the screen on Bedrock and not just from the center of the screen.
@@ -99,17 +101,17 @@ final class BedrockMovePlayer {
         }
 
         // Simulate jumping since it happened this tick, not from the last tick end.
-        if (entity.isOnGround() && packet.getInputData().contains(PlayerAuthInputData.START_JUMPING)) {
+        if (entity.isOnGround() && inputFlags.has(PlayerAuthInputData.START_JUMPING)) {
             entity.setLastTickEndVelocity(Vector3f.from(entity.getLastTickEndVelocity().getX(), Math.max(entity.getLastTickEndVelocity().getY(), entity.getJumpVelocity()), entity.getLastTickEndVelocity().getZ()));
         }
 
         // Due to how ladder works on Bedrock, we won't get climbing velocity from tick end unless if you're colliding horizontally. So we account for it ourselves.
         boolean onClimbableBlock = entity.isOnClimbableBlock();
-        if (onClimbableBlock && packet.getInputData().contains(PlayerAuthInputData.JUMPING)) {
+        if (onClimbableBlock && inputFlags.has(PlayerAuthInputData.JUMPING)) {
             entity.setLastTickEndVelocity(Vector3f.from(entity.getLastTickEndVelocity().getX(), 0.2F, entity.getLastTickEndVelocity().getZ()));
         }
 
-        entity.setCollidingVertically(packet.getInputData().contains(PlayerAuthInputData.VERTICAL_COLLISION));
+        entity.setCollidingVertically(inputFlags.has(PlayerAuthInputData.VERTICAL_COLLISION));
 
         // Client is telling us it wants to move down, but something is blocking it from doing so.
         boolean isOnGround;
@@ -160,7 +162,7 @@ final class BedrockMovePlayer {
         // This takes into account no movement sent from the client, but the player is trying to move anyway.
         // (Press into a wall in a corner - you're trying to move but nothing actually happens)
         // This isn't sent when a player is riding a vehicle (as of 1.21.62)
-        boolean horizontalCollision = packet.getInputData().contains(PlayerAuthInputData.HORIZONTAL_COLLISION);
+        boolean horizontalCollision = inputFlags.has(PlayerAuthInputData.HORIZONTAL_COLLISION);
 
         // If only the pitch and yaw changed
         // This isn't needed, but it makes the packets closer to vanilla
@@ -182,7 +184,7 @@ final class BedrockMovePlayer {
             }
         } else if (positionChangedAndShouldUpdate) {
             if (isValidMove(session, entity.bedrockPosition(), packet.getPosition())) {
-                CollisionResult result = session.getCollisionManager().adjustBedrockPosition(packet.getPosition(), isOnGround, packet.getInputData().contains(PlayerAuthInputData.HANDLE_TELEPORT));
+                CollisionResult result = session.getCollisionManager().adjustBedrockPosition(packet.getPosition(), isOnGround, inputFlags.has(PlayerAuthInputData.HANDLE_TELEPORT));
                 if (result != null) { // A null return value cancels the packet
                     Vector3d position = result.correctedMovement();
 
@@ -49,6 +49,7 @@ import org.geysermc.geyser.entity.vehicle.HorseVehicleComponent;
 import org.geysermc.geyser.level.physics.BoundingBox;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.AuthInputFlags;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
 import org.geysermc.geyser.util.CooldownUtils;
@@ -63,10 +64,8 @@ import org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.player.Serv
 import org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.player.ServerboundSpectatorActionPacket;
 import org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.player.ServerboundSwingPacket;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.OptionalInt;
-import java.util.Set;
 
 @Translator(packet = PlayerAuthInputPacket.class)
 public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<PlayerAuthInputPacket> {
@@ -78,7 +77,6 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
         session.setClientTicks(packet.getTick());
         session.setInClientPredictedVehicle(packet.getInputData().contains(PlayerAuthInputData.IN_CLIENT_PREDICTED_IN_VEHICLE) && entity.getVehicle() != null && GameProtocol.is26_10orHigher(session.protocolVersion()));
 
-        boolean wasJumping = session.getInputCache().wasJumping();
         session.getInputCache().processInputs(entity, packet);
         // While spectating an entity, suppress the player's own movement and actions (BedrockMovePlayer forwards
         // movement and ticks the position reminder, which InputCache#shouldSendPositionReminder says not to do while
@@ -94,12 +92,10 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
 
         ServerboundPlayerCommandPacket sprintPacket = null;
 
-        Set<PlayerAuthInputData> inputData = packet.getInputData();
+        AuthInputFlags inputData = session.getInputCache().getInputFlags();
         // These inputs are sent in order, so if e.g. START_GLIDING and STOP_GLIDING are both present,
         // it's important to make sure we send the last known status instead of both to the Java server.
-        Set<PlayerAuthInputData> leftOverInputData = new HashSet<>(packet.getInputData());
-        for (PlayerAuthInputData input : inputData) {
-            leftOverInputData.remove(input);
+        for (PlayerAuthInputData input : inputData.current()) {
             switch (input) {
                 case PERFORM_ITEM_INTERACTION -> processItemUseTransaction(session, packet.getItemUseTransaction());
                 case PERFORM_ITEM_STACK_REQUEST -> session.getPlayerInventoryHolder().translateRequests(List.of(packet.getItemStackRequest()));
@@ -108,7 +104,7 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
                 case START_CRAWLING -> entity.setFlag(EntityFlag.CRAWLING, true);
                 case STOP_CRAWLING -> entity.setFlag(EntityFlag.CRAWLING, false);
                 case START_SPRINTING -> {
-                    if (!leftOverInputData.contains(PlayerAuthInputData.STOP_SPRINTING)) {
+                    if (!inputData.hasAfter(input, PlayerAuthInputData.STOP_SPRINTING)) {
                         if (!session.isSprinting()) {
                             sprintPacket = new ServerboundPlayerCommandPacket(entity.javaId(), PlayerState.START_SPRINTING);
                             session.setSprinting(true);
@@ -117,7 +113,7 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
                 }
                 case STOP_SPRINTING -> {
                     // Don't send sprinting update when we weren't sprinting
-                    if (!leftOverInputData.contains(PlayerAuthInputData.START_SPRINTING) && session.isSprinting()) {
+                    if (!inputData.hasAfter(input, PlayerAuthInputData.START_SPRINTING) && session.isSprinting()) {
                         sprintPacket = new ServerboundPlayerCommandPacket(entity.javaId(), PlayerState.STOP_SPRINTING);
                         session.setSprinting(false);
                     }
@@ -153,7 +149,7 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
                     // Bedrock can send both start_glide and stop_glide in the same packet.
                     // We only want to start gliding if the client has not stopped gliding in the same tick.
                     // last replicated on 1.21.70 by "walking" and jumping while in water
-                    if (!leftOverInputData.contains(PlayerAuthInputData.STOP_GLIDING)) {
+                    if (!inputData.hasAfter(input, PlayerAuthInputData.STOP_GLIDING)) {
                         if (entity.canStartGliding()) {
                             // On Java you can't start gliding while flying
                             if (session.isFlying()) {
@@ -217,7 +213,7 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
         }
 
         // Vehicle input is send before player movement
-        processVehicleInput(session, packet, wasJumping);
+        processVehicleInput(session, packet);
 
         // Java edition sends sprinting after vehicle input, but before player movement
         if (sprintPacket != null) {
@@ -233,11 +229,11 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
 
         // Only set steering values when the vehicle is a boat and when the client is actually in it
         if (entity.getVehicle() instanceof BoatEntity && session.isInClientPredictedVehicle()) {
-            boolean up = inputData.contains(PlayerAuthInputData.UP);
+            boolean up = inputData.has(PlayerAuthInputData.UP);
             // Yes. These are flipped. Welcome to Bedrock edition.
             // Hi random stranger. I am six days into updating for 1.21.3. How's it going?
-            session.setSteeringLeft(up || inputData.contains(PlayerAuthInputData.PADDLE_RIGHT));
-            session.setSteeringRight(up || inputData.contains(PlayerAuthInputData.PADDLE_LEFT));
+            session.setSteeringLeft(up || inputData.has(PlayerAuthInputData.PADDLE_RIGHT));
+            session.setSteeringRight(up || inputData.has(PlayerAuthInputData.PADDLE_LEFT));
         }
     }
 
@@ -253,7 +249,7 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
         }
     }
 
-    private static void processVehicleInput(GeyserSession session, PlayerAuthInputPacket packet, boolean wasJumping) {
+    private static void processVehicleInput(GeyserSession session, PlayerAuthInputPacket packet) {
         Entity vehicle = session.getPlayerEntity().getVehicle();
         if (vehicle == null) {
             return;
@@ -265,7 +261,8 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
             boolean isMobileAndClassicMovement = packet.getInputMode() == InputMode.TOUCH && packet.getInputInteractionModel() == InputInteractionModel.CLASSIC;
             if (isMobileAndClassicMovement && vehicle instanceof BoatEntity) {
                 // Press both left and right to move forward and press 1 to turn the boat.
-                boolean left = packet.getInputData().contains(PlayerAuthInputData.PADDLE_LEFT), right = packet.getInputData().contains(PlayerAuthInputData.PADDLE_RIGHT);
+                AuthInputFlags inputData = session.getInputCache().getInputFlags();
+                boolean left = inputData.has(PlayerAuthInputData.PADDLE_LEFT), right = inputData.has(PlayerAuthInputData.PADDLE_RIGHT);
                 if (left && right) {
                     session.getPlayerEntity().setVehicleInput(Vector2f.UNIT_Y);
                 } else {
@@ -294,8 +291,8 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
                 }
             }
 
-            boolean holdingJump = packet.getInputData().contains(PlayerAuthInputData.JUMPING);
-            if (wasJumping && !holdingJump) {
+            AuthInputFlags inputData = session.getInputCache().getInputFlags();
+            if (inputData.wasReleased(PlayerAuthInputData.JUMPING)) {
                 // Jump released
                 // Yes, I'm fairly certain that entity ID is correct.
                 int finalVehicleJumpStrength = GenericMath.floor(session.getInputCache().getJumpScale() * 100f);
@@ -307,10 +304,10 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
                 if (vehicle instanceof AbstractHorseEntity horse && horse.getVehicleComponent() instanceof HorseVehicleComponent horseVehicleComponent) {
                     horseVehicleComponent.setAllowStandSliding(true);
                 }
-            } else if (!wasJumping && holdingJump) {
+            } else if (inputData.wasPressed(PlayerAuthInputData.JUMPING)) {
                 session.getInputCache().setJumpingTicks(0);
                 session.getInputCache().setJumpScale(0);
-            } else if (holdingJump) {
+            } else if (inputData.has(PlayerAuthInputData.JUMPING)) {
                 session.getInputCache().setJumpingTicks(++currentJumpingTicks);
                 if (currentJumpingTicks < 10) {
                     session.getInputCache().setJumpScale(session.getInputCache().getJumpingTicks() * 0.1F);
@@ -25,8 +25,8 @@
 
 package org.geysermc.geyser.translator.protocol.java.level;
 
-import org.cloudburstmc.math.vector.Vector3i;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.SkullCache;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
 import org.geysermc.geyser.util.ChunkUtils;
@@ -43,13 +43,10 @@ public class JavaForgetLevelChunkTranslator extends PacketTranslator<Clientbound
         session.getChunkCache().removeChunk(packet.getX(), packet.getZ());
 
         // Checks if a skull is in an unloaded chunk then removes it
-        List<Vector3i> removedSkulls = new ArrayList<>();
-        for (Vector3i position : session.getSkullCache().getSkulls().keySet()) {
-            if ((position.getX() >> 4) == packet.getX() && (position.getZ() >> 4) == packet.getZ()) {
-                removedSkulls.add(position);
-            }
+        List<SkullCache.Skull> removedSkulls = new ArrayList<>(session.getSkullCache().getSkulls().inChunk(packet.getX(), packet.getZ()));
+        for (SkullCache.Skull skull : removedSkulls) {
+            session.getSkullCache().removeSkull(skull.getPosition());
         }
-        removedSkulls.forEach(session.getSkullCache()::removeSkull);
 
         ChunkUtils.sendEmptyChunk(session, packet.getX(), packet.getZ(), false);
     }
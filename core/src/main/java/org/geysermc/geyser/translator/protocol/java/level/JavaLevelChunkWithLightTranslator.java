@@ -73,7 +73,6 @@ import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.Clien
 import java.io.IOException;
 import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
 
 import static org.geysermc.geyser.util.ChunkUtils.EMPTY_BLOCK_STORAGE;
 import static org.geysermc.geyser.util.ChunkUtils.EMPTY_CHUNK_SECTION_SIZE;
@@ -364,7 +363,7 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                     continue;
                 }
 
-                BiomeTranslator.toNewBedrockBiome(session, javaBiomes[i + (dimensionOffset - yOffset)]).writeToNetwork(byteBuf);
+                BiomeTranslator.writeBedrockBiome(session, javaBiomes[i + (dimensionOffset - yOffset)], byteBuf);
             }
 
             byteBuf.writeByte(0); // Border blocks - Edu edition only
@@ -391,13 +390,9 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
             }
         }
 
-        for (Map.Entry<Vector3i, ItemFrameEntity> entry : session.getItemFrameCache().entrySet()) {
-            Vector3i position = entry.getKey();
-            if ((position.getX() >> 4) == packet.getX() && (position.getZ() >> 4) == packet.getZ()) {
-                // Update this item frame so it doesn't get lost in the abyss
-                //TODO optimize
-                entry.getValue().updateBlock(true);
-            }
+        for (ItemFrameEntity itemFrame : session.getItemFrameCache().inChunk(packet.getX(), packet.getZ())) {
+            // Update this item frame so it doesn't get lost in the abyss
+            itemFrame.updateBlock(true);
         }
     }
 }
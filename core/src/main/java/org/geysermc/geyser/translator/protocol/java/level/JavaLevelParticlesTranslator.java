@@ -50,6 +50,7 @@ import org.geysermc.geyser.entity.type.Entity;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.ParticleMapping;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ParticleLimiter;
 import org.geysermc.geyser.translator.item.ItemTranslator;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
@@ -68,13 +69,17 @@ public class JavaLevelParticlesTranslator extends PacketTranslator<ClientboundLe
     public void translate(GeyserSession session, ClientboundLevelParticlesPacket packet) {
         Function<Vector3f, BedrockPacket> particleCreateFunction = createParticle(session, packet.getParticle());
         if (particleCreateFunction != null) {
+            ParticleLimiter limiter = session.getParticleLimiter();
             if (packet.getAmount() == 0) {
                 // 0 means don't apply the offset
+                if (limiter.allow(packet.getX(), packet.getY(), packet.getZ(), 1, packet.isOverrideLimiter()) == 0) {
+                    return;
+                }
                 Vector3f position = Vector3f.from(packet.getX(), packet.getY(), packet.getZ());
                 session.sendUpstreamPacket(particleCreateFunction.apply(position));
             } else {
                 Random random = ThreadLocalRandom.current();
-                int amount = Math.min(MAX_PARTICLES, packet.getAmount());
+                int amount = limiter.allow(packet.getX(), packet.getY(), packet.getZ(), Math.min(MAX_PARTICLES, packet.getAmount()), packet.isOverrideLimiter());
                 for (int i = 0; i < amount; i++) {
                     double offsetX = random.nextGaussian() * (double) packet.getOffsetX();
                     double offsetY = random.nextGaussian() * (double) packet.getOffsetY();
@@ -33,8 +33,8 @@ import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.protocol.bedrock.data.MapDecoration;
 import org.cloudburstmc.protocol.bedrock.data.MapTrackedObject;
 import org.geysermc.geyser.level.BedrockMapIcon;
-import org.geysermc.geyser.level.MapColor;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.MapCache;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
 import org.geysermc.geyser.util.DimensionUtils;
@@ -58,20 +58,17 @@ public class JavaMapItemDataTranslator extends PacketTranslator<ClientboundMapIt
 
         MapData data = packet.getData();
         if (data != null) {
-            mapItemDataPacket.setXOffset(data.getX());
-            mapItemDataPacket.setYOffset(data.getY());
-            mapItemDataPacket.setWidth(data.getColumns());
-            mapItemDataPacket.setHeight(data.getRows());
+            // Only send the part of the map that the client doesn't have yet
+            MapCache.MapRegion region = session.getMapCache().update(packet.getMapId(), data);
+            if (region != null) {
+                mapItemDataPacket.setXOffset(region.x());
+                mapItemDataPacket.setYOffset(region.y());
+                mapItemDataPacket.setWidth(region.columns());
+                mapItemDataPacket.setHeight(region.rows());
 
-            // Every int entry is an ARGB color
-            int[] colors = new int[data.getData().length];
-
-            int idx = 0;
-            for (byte colorId : data.getData()) {
-                colors[idx++] = MapColor.fromId(colorId & 0xFF).getABGR();
+                // Every int entry is an ABGR color
+                mapItemDataPacket.setColors(region.colors());
             }
-
-            mapItemDataPacket.setColors(colors);
         }
 
         // Bedrock needs an entity id to display an icon
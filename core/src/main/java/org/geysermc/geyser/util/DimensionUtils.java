@@ -60,6 +60,7 @@ public class DimensionUtils {
         session.getEntityCache().removeAllEntities();
         session.getItemFrameCache().clear();
         session.getLodestoneCache().clear();
+        session.getMapCache().clear();
         session.getPistonCache().clear();
         session.getSkullCache().clear();
         session.getBlockBreakHandler().reset();
@@ -25,7 +25,9 @@
 
 package org.geysermc.geyser.util;
 
+import io.netty.channel.EventLoop;
 import net.raphimc.minecraftauth.msa.model.MsaDeviceCode;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.data.auth.AuthPayload;
 import org.cloudburstmc.protocol.bedrock.data.auth.AuthType;
 import org.cloudburstmc.protocol.bedrock.data.auth.CertificateChainPayload;
@@ -41,6 +43,7 @@ import org.geysermc.cumulus.response.SimpleFormResponse;
 import org.geysermc.cumulus.response.result.FormResponseResult;
 import org.geysermc.cumulus.response.result.ValidFormResponseResult;
 import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.network.LoginEncryptionExecutor;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.auth.AuthData;
 import org.geysermc.geyser.session.auth.BedrockClientData;
@@ -51,97 +54,160 @@ import javax.crypto.SecretKey;
 import java.net.InetSocketAddress;
 import java.security.KeyPair;
 import java.security.PublicKey;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
 
 public class LoginEncryptionUtils {
     private static boolean HAS_SENT_ENCRYPTION_MESSAGE = false;
 
-    public static void encryptPlayerConnection(GeyserSession session, LoginPacket loginPacket) {
-        encryptConnectionWithCert(session, loginPacket.getAuthPayload(), loginPacket.getClientJwt());
+    /**
+     * Validates the login chain and starts the encryption handshake. The expensive elliptic-curve work is done on
+     * {@link LoginEncryptionExecutor}; the returned future always completes normally on the session's network thread,
+     * after the session's auth data has been set or the session has been disconnected.
+     */
+    public static CompletableFuture<Void> encryptPlayerConnection(GeyserSession session, LoginPacket loginPacket) {
+        long startTime = System.nanoTime();
+        AuthPayload authPayload = loginPacket.getAuthPayload();
+        String jwt = loginPacket.getClientJwt();
+
+        // Regardless of auth type, we don't support guest type accounts used for splitscreen
+        if (authPayload.getAuthType() == AuthType.GUEST) {
+            session.disconnect(GeyserLocale.getLocaleStringLog("geyser.network.remote.invalid_xbox_account"));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        GeyserImpl geyser = session.getGeyser();
+        LoginEncryptionExecutor executor = geyser.getLoginEncryptionExecutor();
+        boolean validateLogin = geyser.config().advanced().bedrock().validateBedrockLogin();
+        EventLoop eventLoop = session.getUpstream().getSession().getPeer().getChannel().eventLoop();
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        executor.submit(() -> {
+                try {
+                    return validateLogin(executor, authPayload, jwt, validateLogin);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            })
+            .whenCompleteAsync((login, throwable) -> {
+                try {
+                    if (throwable instanceof RejectedExecutionException
+                        || (throwable instanceof CompletionException && throwable.getCause() instanceof RejectedExecutionException)) {
+                        session.disconnect("The server is busy, please try again in a moment.");
+                        geyser.getLogger().debug("Turned away a login, as too many are waiting or Geyser is shutting down");
+                    } else if (throwable != null) {
+                        session.disconnect("disconnectionScreen.internalError.cantConnect");
+                        geyser.getLogger().error("Unable to complete login", throwable);
+                    } else if (!session.isClosed()) {
+                        encryptConnectionWithCert(session, authPayload, login);
+                        if (login.handshake() != null) {
+                            executor.recordHandshake(System.nanoTime() - startTime);
+                        }
+                    }
+                } catch (Throwable t) {
+                    session.disconnect("disconnectionScreen.internalError.cantConnect");
+                    geyser.getLogger().error("Unable to complete login", t);
+                } finally {
+                    future.complete(null);
+                }
+            }, eventLoop);
+        return future;
     }
 
-    private static void encryptConnectionWithCert(GeyserSession session, AuthPayload authPayload, String jwt) {
-        try {
-            GeyserImpl geyser = session.getGeyser();
+    /**
+     * Runs on the login executor - must not touch the session.
+     */
+    private static ValidatedLogin validateLogin(LoginEncryptionExecutor executor, AuthPayload authPayload, String jwt, boolean validateLogin) throws Exception {
+        ChainValidationResult result = EncryptionUtils.validatePayload(authPayload);
 
-            // Regardless of auth type, we don't support guest type accounts used for splitscreen
-            if (authPayload.getAuthType() == AuthType.GUEST) {
-                session.disconnect(GeyserLocale.getLocaleStringLog("geyser.network.remote.invalid_xbox_account"));
-                return;
-            }
+        if (!result.signed() && validateLogin) {
+            // Will be disconnected; no need to do any more work
+            return new ValidatedLogin(result, null, null);
+        }
 
-            ChainValidationResult result = EncryptionUtils.validatePayload(authPayload);
+        PublicKey identityPublicKey = result.identityClaims().parsedIdentityPublicKey();
 
-            geyser.getLogger().debug("Is player data signed? %s", result.signed());
-            if (!result.signed() && session.getGeyser().config().advanced().bedrock().validateBedrockLogin()) {
-                session.disconnect(GeyserLocale.getLocaleStringLog("geyser.network.remote.invalid_xbox_account"));
-                return;
-            }
+        byte[] clientDataPayload = EncryptionUtils.verifyClientData(jwt, identityPublicKey);
+        if (clientDataPayload == null) {
+            throw new IllegalStateException("Client data isn't signed by the given chain data");
+        }
 
-            // Should always be present, but hey, why not make it safe :D
-            Long rawIssuedAt = (Long) result.rawIdentityClaims().get("iat");
-            long issuedAt = rawIssuedAt != null ? rawIssuedAt : -1;
+        BedrockClientData data = JsonUtils.fromJson(clientDataPayload, BedrockClientData.class);
+        data.setOriginalString(jwt);
 
-            if (authPayload instanceof TokenPayload tokenPayload) {
-                session.setToken(tokenPayload.getToken());
-            } else if (authPayload instanceof CertificateChainPayload certificateChainPayload) {
-                session.setCertChainData(certificateChainPayload.getChain());
-            } else {
-                GeyserImpl.getInstance().getLogger().warning("Unknown auth payload! Skin uploading will not work");
+        PreparedHandshake handshake = null;
+        try {
+            handshake = prepareEncryptionHandshake(executor, identityPublicKey);
+        } catch (Throwable e) {
+            // An error can be thrown on older Java 8 versions about an invalid key
+            if (GeyserImpl.getInstance().config().debugMode()) {
+                e.printStackTrace();
             }
+        }
+        return new ValidatedLogin(result, data, handshake);
+    }
 
-            PublicKey identityPublicKey = result.identityClaims().parsedIdentityPublicKey();
+    private static void encryptConnectionWithCert(GeyserSession session, AuthPayload authPayload, ValidatedLogin login) {
+        GeyserImpl geyser = session.getGeyser();
+        ChainValidationResult result = login.result();
 
-            byte[] clientDataPayload = EncryptionUtils.verifyClientData(jwt, identityPublicKey);
-            if (clientDataPayload == null) {
-                throw new IllegalStateException("Client data isn't signed by the given chain data");
-            }
+        geyser.getLogger().debug("Is player data signed? %s", result.signed());
+        if (!result.signed() && session.getGeyser().config().advanced().bedrock().validateBedrockLogin()) {
+            session.disconnect(GeyserLocale.getLocaleStringLog("geyser.network.remote.invalid_xbox_account"));
+            return;
+        }
 
-            BedrockClientData data = JsonUtils.fromJson(clientDataPayload, BedrockClientData.class);
-            data.setOriginalString(jwt);
-            session.setClientData(data);
-
-            IdentityData extraData = result.identityClaims().extraData;
-            String xuid = extraData.xuid;
-            if (geyser.config().advanced().bedrock().useWaterdogpeForwarding()) {
-                String waterdogIp = data.getWaterdogIp();
-                String waterdogXuid = data.getWaterdogXuid();
-                if (waterdogXuid != null && !waterdogXuid.isBlank() && waterdogIp != null && !waterdogIp.isBlank()) {
-                    xuid = waterdogXuid;
-                    session.getUpstream().setInetAddress(new InetSocketAddress(waterdogIp, 0));
-                } else {
-                    session.disconnect("Did not receive IP and xuid forwarded from the proxy!");
-                    return;
-                }
-            }
-            session.setAuthData(new AuthData(extraData.displayName, extraData.identity, xuid, issuedAt, extraData.minecraftId));
-
-            try {
-                startEncryptionHandshake(session, identityPublicKey);
-            } catch (Throwable e) {
-                // An error can be thrown on older Java 8 versions about an invalid key
-                if (geyser.config().debugMode()) {
-                    e.printStackTrace();
-                }
+        // Should always be present, but hey, why not make it safe :D
+        Long rawIssuedAt = (Long) result.rawIdentityClaims().get("iat");
+        long issuedAt = rawIssuedAt != null ? rawIssuedAt : -1;
 
-                sendEncryptionFailedMessage(geyser);
+        if (authPayload instanceof TokenPayload tokenPayload) {
+            session.setToken(tokenPayload.getToken());
+        } else if (authPayload instanceof CertificateChainPayload certificateChainPayload) {
+            session.setCertChainData(certificateChainPayload.getChain());
+        } else {
+            GeyserImpl.getInstance().getLogger().warning("Unknown auth payload! Skin uploading will not work");
+        }
+
+        BedrockClientData data = login.clientData();
+        session.setClientData(data);
+
+        IdentityData extraData = result.identityClaims().extraData;
+        String xuid = extraData.xuid;
+        if (geyser.config().advanced().bedrock().useWaterdogpeForwarding()) {
+            String waterdogIp = data.getWaterdogIp();
+            String waterdogXuid = data.getWaterdogXuid();
+            if (waterdogXuid != null && !waterdogXuid.isBlank() && waterdogIp != null && !waterdogIp.isBlank()) {
+                xuid = waterdogXuid;
+                session.getUpstream().setInetAddress(new InetSocketAddress(waterdogIp, 0));
+            } else {
+                session.disconnect("Did not receive IP and xuid forwarded from the proxy!");
+                return;
             }
-        } catch (Exception ex) {
-            session.disconnect("disconnectionScreen.internalError.cantConnect");
-            throw new RuntimeException("Unable to complete login", ex);
+        }
+        session.setAuthData(new AuthData(extraData.displayName, extraData.identity, xuid, issuedAt, extraData.minecraftId));
+
+        PreparedHandshake handshake = login.handshake();
+        if (handshake != null) {
+            ServerToClientHandshakePacket packet = new ServerToClientHandshakePacket();
+            packet.setJwt(handshake.jwt());
+            session.sendUpstreamPacketImmediately(packet);
+
+            session.getUpstream().getSession().enableEncryption(handshake.encryptionKey());
+        } else {
+            sendEncryptionFailedMessage(geyser);
         }
     }
 
-    private static void startEncryptionHandshake(GeyserSession session, PublicKey key) throws Exception {
-        KeyPair serverKeyPair = EncryptionUtils.createKeyPair();
+    private static PreparedHandshake prepareEncryptionHandshake(LoginEncryptionExecutor executor, PublicKey key) throws Exception {
+        KeyPair serverKeyPair = executor.takeKeyPair();
         byte[] token = EncryptionUtils.generateRandomToken();
 
-        ServerToClientHandshakePacket packet = new ServerToClientHandshakePacket();
-        packet.setJwt(EncryptionUtils.createHandshakeJwt(serverKeyPair, token));
-        session.sendUpstreamPacketImmediately(packet);
-
+        String jwt = EncryptionUtils.createHandshakeJwt(serverKeyPair, token);
         SecretKey encryptionKey = EncryptionUtils.getSecretKey(serverKeyPair.getPrivate(), key, token);
-        session.getUpstream().getSession().enableEncryption(encryptionKey);
+        return new PreparedHandshake(jwt, encryptionKey);
     }
 
     private static void sendEncryptionFailedMessage(GeyserImpl geyser) {
@@ -152,6 +218,12 @@ public class LoginEncryptionUtils {
         }
     }
 
+    private record ValidatedLogin(ChainValidationResult result, @Nullable BedrockClientData clientData, @Nullable PreparedHandshake handshake) {
+    }
+
+    private record PreparedHandshake(String jwt, SecretKey encryptionKey) {
+    }
+
     public static void buildAndShowLoginWindow(GeyserSession session) {
         if (session.isLoggedIn()) {
             // Can happen if a window is cancelled during dimension switch
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import org.geysermc.geyser.GeyserImpl;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One HTTP client for all of Geyser's web requests, so connections (and their TLS handshakes) are reused.
+ * <p>
+ * Asynchronous requests run on virtual threads, while blocking ones run on the caller's thread. Each host only gets a
+ * limited amount of concurrent requests, and if a host rate limits us for a few seconds, all requests to it wait until
+ * it allows them again. Concurrent GET requests for the same URL
+ * share one request.
+ */
+public final class SharedHttpClient {
+    private static final int MAX_REQUESTS_PER_HOST = 16;
+    private static final int MAX_RATE_LIMIT_RETRIES = 3;
+    /**
+     * The longest we wait for a host that rate limits us. Blocking requests wait on the caller's thread, so if a host
+     * asks for more, the request fails instead.
+     */
+    private static final long MAX_RATE_LIMIT_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("Geyser HTTP Thread-", 0).factory());
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .connectTimeout(TIMEOUT)
+        .executor(EXECUTOR)
+        .build();
+
+    private static final Map<String, CompletableFuture<byte[]>> IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final Map<String, Host> HOSTS = new ConcurrentHashMap<>();
+
+    private SharedHttpClient() {
+    }
+
+    /**
+     * Makes a GET request, sharing it with any identical request that is still running.
+     *
+     * @return the response body
+     * @throws IOException if the request failed, or the server responded with an error
+     */
+    public static byte[] get(String url) throws IOException {
+        try {
+            return getAsync(url).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public static CompletableFuture<byte[]> getAsync(String url) {
+        return IN_FLIGHT.computeIfAbsent(url, key -> {
+            CompletableFuture<byte[]> future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return send(HttpRequest.newBuilder(URI.create(key)).GET());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, EXECUTOR);
+            return future.whenComplete((body, throwable) -> IN_FLIGHT.remove(key));
+        });
+    }
+
+    /**
+     * Makes a POST request.
+     *
+     * @return the response body
+     * @throws IOException if the request failed, or the server responded with an error
+     */
+    public static byte[] post(String url, String contentType, String body) throws IOException {
+        return send(HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", contentType)
+            .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Downloads a file without holding it in memory. It is written next to the target first and then moved into place,
+     * so a failed download never leaves a truncated file behind.
+     * <p>
+     * Note that the request timeout only covers connecting and receiving the response headers. Reading the body isn't
+     * limited, as large files (like the client jar) may be downloaded over slow connections.
+     *
+     * @throws IOException if the request failed, or the server responded with an error
+     */
+    public static void download(String url, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            HttpResponse<Path> response = send(HttpRequest.newBuilder(URI.create(url)).GET(), HttpResponse.BodyHandlers.ofFile(temp));
+            if (response.statusCode() >= 400) {
+                throw new IOException("Server responded with status " + response.statusCode() + " for " + url);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static byte[] send(HttpRequest.Builder builder) throws IOException {
+        HttpResponse<byte[]> response = send(builder, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IOException(new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return response.body();
+    }
+
+    /**
+     * Sends the request, retrying it if the host rate limits us.
+     */
+    private static <T> HttpResponse<T> send(HttpRequest.Builder builder, HttpResponse.BodyHandler<T> bodyHandler) throws IOException {
+        HttpRequest request = builder
+            .header("User-Agent", WebUtils.getUserAgent())
+            .timeout(TIMEOUT)
+            .build();
+        Host host = HOSTS.computeIfAbsent(request.uri().getHost(), hostName -> new Host());
+
+        try {
+            for (int attempt = 0; ; attempt++) {
+                HttpResponse<T> response = host.send(request, bodyHandler);
+                if (response.statusCode() == 429 && attempt < MAX_RATE_LIMIT_RETRIES) {
+                    long delay = retryAfterMillis(response, attempt);
+                    if (delay > MAX_RATE_LIMIT_WAIT_MILLIS) {
+                        GeyserImpl.getInstance().getLogger().debug("Rate limited by " + request.uri().getHost() + " for " + delay + "ms, not retrying");
+                        return response;
+                    }
+                    GeyserImpl.getInstance().getLogger().debug("Rate limited by " + request.uri().getHost() + ", retrying in " + delay + "ms");
+                    host.pauseFor(delay);
+                    continue;
+                }
+                return response;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while requesting " + request.uri());
+        }
+    }
+
+    private static long retryAfterMillis(HttpResponse<?> response, int attempt) {
+        try {
+            return response.headers().firstValue("Retry-After")
+                .map(seconds -> TimeUnit.SECONDS.toMillis(Long.parseLong(seconds.trim())))
+                .orElse(1000L << attempt);
+        } catch (NumberFormatException e) {
+            // Also allowed to be a date; not worth parsing
+            return 1000L << attempt;
+        }
+    }
+
+    private static final class Host {
+        private final Semaphore permits = new Semaphore(MAX_REQUESTS_PER_HOST);
+        private volatile long pausedUntil;
+
+        <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+            while (true) {
+                // Wait without holding a permit, so a paused host doesn't hold up requests that could go out right after
+                long wait;
+                while ((wait = pausedUntil - System.currentTimeMillis()) > 0) {
+                    Thread.sleep(wait);
+                }
+                permits.acquire();
+                try {
+                    if (pausedUntil <= System.currentTimeMillis()) {
+                        return CLIENT.send(request, bodyHandler);
+                    }
+                } finally {
+                    permits.release();
+                }
+            }
+        }
+
+        void pauseFor(long millis) {
+            pausedUntil = Math.max(pausedUntil, System.currentTimeMillis() + millis);
+        }
+    }
+}
@@ -25,6 +25,8 @@
 
 package org.geysermc.geyser.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3f;
 import org.cloudburstmc.nbt.NbtMap;
@@ -37,14 +39,30 @@ import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
+import org.geysermc.geyser.registry.type.ResolvedSound;
 import org.geysermc.geyser.registry.type.SoundMapping;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.mcprotocollib.protocol.data.game.level.sound.BuiltinSound;
 import org.geysermc.mcprotocollib.protocol.data.game.level.sound.Sound;
 
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public final class SoundUtils {
 
+    /**
+     * Sounds that aren't builtin, resolved like builtin sounds are in {@link Registries#BUILTIN_SOUNDS}.
+     */
+    private static final Cache<String, ResolvedSound> RESOLVED_SOUNDS = CacheBuilder.newBuilder()
+        .maximumSize(512)
+        .build();
+
+    private static final Map<String, SoundEvent> SOUND_EVENTS = Arrays.stream(SoundEvent.values())
+        .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
     /**
      * Maps a sound name to a sound event, null if one
      * does not exist.
@@ -52,12 +70,11 @@ public final class SoundUtils {
      * @param sound the sound name
      * @return a sound event from the given sound
      */
-    public static @Nullable SoundEvent toSoundEvent(String sound) {
-        try {
-            return SoundEvent.valueOf(sound.toUpperCase(Locale.ROOT).replace(".", "_"));
-        } catch (Exception ex) {
+    public static @Nullable SoundEvent toSoundEvent(@Nullable String sound) {
+        if (sound == null) {
             return null;
         }
+        return SOUND_EVENTS.get(sound.toUpperCase(Locale.ROOT).replace(".", "_"));
     }
 
     /**
@@ -67,16 +84,77 @@ public final class SoundUtils {
      * @return a Bedrock sound
      */
     public static String translatePlaySound(String javaIdentifier) {
-        String soundIdentifier = removeMinecraftNamespace(javaIdentifier);
-        SoundMapping soundMapping = Registries.SOUNDS.get(soundIdentifier);
+        ResolvedSound resolved = resolve(javaIdentifier);
+        SoundMapping soundMapping = resolved.mapping();
         if (soundMapping == null || soundMapping.playsound() == null) {
             // no mapping
             GeyserImpl.getInstance().getLogger().debug("[PlaySound] Defaulting to sound server gave us for " + javaIdentifier);
-            return soundIdentifier;
+            return resolved.identifier();
         }
         return soundMapping.playsound();
     }
 
+    /**
+     * @return every builtin sound resolved, by ordinal
+     */
+    public static ResolvedSound[] resolveBuiltinSounds() {
+        BuiltinSound[] sounds = BuiltinSound.values();
+        ResolvedSound[] resolved = new ResolvedSound[sounds.length];
+        for (BuiltinSound sound : sounds) {
+            resolved[sound.ordinal()] = resolveUncached(sound.getName());
+        }
+        return resolved;
+    }
+
+    private static ResolvedSound resolve(Sound sound) {
+        if (sound instanceof BuiltinSound builtinSound) {
+            ResolvedSound resolved = Registries.BUILTIN_SOUNDS.get(builtinSound.ordinal());
+            if (resolved != null) {
+                return resolved;
+            }
+        }
+        return resolve(sound.getName());
+    }
+
+    private static ResolvedSound resolve(String javaIdentifier) {
+        ResolvedSound resolved = RESOLVED_SOUNDS.getIfPresent(javaIdentifier);
+        if (resolved == null) {
+            resolved = resolveUncached(javaIdentifier);
+            RESOLVED_SOUNDS.put(javaIdentifier, resolved);
+        }
+        return resolved;
+    }
+
+    private static ResolvedSound resolveUncached(String javaIdentifier) {
+        String soundIdentifier = removeMinecraftNamespace(javaIdentifier);
+        SoundMapping soundMapping = Registries.SOUNDS.get(soundIdentifier);
+        if (soundMapping == null || soundMapping.playsound() != null) {
+            return new ResolvedSound(soundIdentifier, soundMapping, null, null, -1);
+        }
+
+        if (soundMapping.levelEvent()) {
+            LevelEvent levelEvent = null;
+            try {
+                if (soundMapping.bedrock() != null) {
+                    levelEvent = LevelEvent.valueOf(soundMapping.bedrock());
+                }
+            } catch (IllegalArgumentException e) {
+                GeyserImpl.getInstance().getLogger().debug("Level event for sound '" + soundIdentifier + "' does not exist: " + soundMapping.bedrock());
+            }
+            return new ResolvedSound(soundIdentifier, soundMapping, null, levelEvent, -1);
+        }
+
+        SoundEvent sound = toSoundEvent(soundMapping.bedrock());
+        if (sound == null) {
+            sound = toSoundEvent(soundIdentifier);
+        }
+        int placedBlockState = -1;
+        if (sound == SoundEvent.PLACE && soundMapping.extraData() == -1 && !soundMapping.identifier().equals(":")) {
+            placedBlockState = BlockRegistries.JAVA_BLOCK_STATE_IDENTIFIER_TO_ID.get().getOrDefault(soundMapping.identifier(), Block.JAVA_AIR_ID);
+        }
+        return new ResolvedSound(soundIdentifier, soundMapping, sound, null, placedBlockState);
+    }
+
     private static String removeMinecraftNamespace(String identifier) {
         // Drop any minecraft namespace if applicable
         if (identifier.startsWith("minecraft:")) {
@@ -103,9 +181,10 @@ public final class SoundUtils {
      * @param pitch the pitch
      */
     public static void playSound(GeyserSession session, Sound javaSound, Vector3f position, float volume, float pitch) {
-        String soundIdentifier = removeMinecraftNamespace(javaSound.getName());
+        ResolvedSound resolved = resolve(javaSound);
+        String soundIdentifier = resolved.identifier();
 
-        SoundMapping soundMapping = Registries.SOUNDS.get(soundIdentifier);
+        SoundMapping soundMapping = resolved.mapping();
         if (soundMapping == null) {
             session.getGeyser().getLogger().debug("[Builtin] Sound mapping for " + soundIdentifier + " not found; assuming custom.");
             playSound(session, soundIdentifier, position, volume, pitch);
@@ -119,19 +198,19 @@ public final class SoundUtils {
         }
 
         if (soundMapping.levelEvent()) {
+            if (resolved.levelEvent() == null) {
+                return;
+            }
             LevelEventPacket levelEventPacket = new LevelEventPacket();
             levelEventPacket.setPosition(position);
             levelEventPacket.setData(0);
-            levelEventPacket.setType(LevelEvent.valueOf(soundMapping.bedrock()));
+            levelEventPacket.setType(resolved.levelEvent());
             session.sendUpstreamPacket(levelEventPacket);
             return;
         }
 
         LevelSoundEventPacket soundPacket = new LevelSoundEventPacket();
-        SoundEvent sound = SoundUtils.toSoundEvent(soundMapping.bedrock());
-        if (sound == null) {
-            sound = SoundUtils.toSoundEvent(soundIdentifier);
-        }
+        SoundEvent sound = resolved.soundEvent();
         if (sound == null) {
             session.getGeyser().getLogger().debug("[Builtin] Sound for original '" + soundIdentifier + "' to mappings '" + soundMapping.bedrock()
                 + "' was not a playable level sound, or has yet to be mapped to an enum in SoundEvent.");
@@ -147,9 +226,8 @@ public final class SoundUtils {
             // Bedrock has a number for each type of note, then proceeds up the scale by adding to that number
             soundPacket.setExtraData(soundMapping.extraData() + (int) (Math.round((Math.log10(pitch) / Math.log10(2)) * 12)) + 12);
         } else if (sound == SoundEvent.PLACE && soundMapping.extraData() == -1) {
-            if (!soundMapping.identifier().equals(":")) {
-                int javaId = BlockRegistries.JAVA_BLOCK_STATE_IDENTIFIER_TO_ID.get().getOrDefault(soundMapping.identifier(), Block.JAVA_AIR_ID);
-                soundPacket.setExtraData(session.getBlockMappings().getBedrockBlockId(javaId));
+            if (resolved.placedBlockState() != -1) {
+                soundPacket.setExtraData(session.getBlockMappings().getBedrockBlockId(resolved.placedBlockState()));
             } else {
                 session.getGeyser().getLogger().debug("PLACE sound mapping identifier was invalid! Please report: " + soundMapping);
             }
@@ -35,11 +35,9 @@ import org.geysermc.geyser.GeyserLogger;
 
 import javax.naming.directory.Attribute;
 import javax.naming.directory.InitialDirContext;
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -72,15 +70,8 @@ public class WebUtils {
      */
     public static String getBody(String reqURL) throws IOException {
         try {
-            URL url = new URL(reqURL);
-            HttpURLConnection con = (HttpURLConnection) url.openConnection();
-            con.setRequestMethod("GET");
-            con.setRequestProperty("User-Agent", getUserAgent()); // Otherwise Java 8 fails on checking updates
-            con.setConnectTimeout(10000);
-            con.setReadTimeout(10000);
-            checkResponseCode(con);
-            return connectionToString(con);
-        } catch (UnknownHostException e) {
+            return new String(SharedHttpClient.get(reqURL), StandardCharsets.UTF_8);
+        } catch (UnknownHostException | ConnectException e) {
             throw new IllegalStateException("Unable to resolve requested url (%s)! Are you offline?".formatted(reqURL), e);
         }
     }
@@ -92,12 +83,8 @@ public class WebUtils {
      * @return the response as JSON
      */
     public static JsonObject getJson(String reqURL) throws IOException {
-        HttpURLConnection con = (HttpURLConnection) new URL(reqURL).openConnection();
-        con.setRequestProperty("User-Agent", getUserAgent());
-        con.setConnectTimeout(10000);
-        con.setReadTimeout(10000);
-        checkResponseCode(con);
-        try (InputStreamReader isr = new InputStreamReader(con.getInputStream());
+        byte[] body = SharedHttpClient.get(reqURL);
+        try (InputStreamReader isr = new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
              JsonReader reader = GeyserImpl.GSON.newJsonReader(isr)) {
             //noinspection deprecation
             return new JsonParser().parse(reader).getAsJsonObject();
@@ -122,11 +109,7 @@ public class WebUtils {
      */
     public static void downloadFile(String reqURL, Path path) {
         try {
-            HttpURLConnection con = (HttpURLConnection) new URL(reqURL).openConnection();
-            con.setRequestProperty("User-Agent", getUserAgent());
-            checkResponseCode(con);
-            InputStream in = con.getInputStream();
-            Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+            SharedHttpClient.download(reqURL, path);
         } catch (Exception e) {
             throw new RuntimeException("Unable to download and save file: " + path.toAbsolutePath() + " (" + reqURL + ")", e);
         }
@@ -273,66 +256,7 @@ public class WebUtils {
      * @throws IOException If the request fails
      */
     public static String post(String reqURL, String postContent) throws IOException {
-        URL url = new URL(reqURL);
-        HttpURLConnection con = (HttpURLConnection) url.openConnection();
-        con.setRequestMethod("POST");
-        con.setRequestProperty("Content-Type", "text/plain");
-        con.setRequestProperty("User-Agent", getUserAgent());
-        con.setDoOutput(true);
-
-        OutputStream out = con.getOutputStream();
-        out.write(postContent.getBytes(StandardCharsets.UTF_8));
-        out.close();
-
-        return connectionToString(con);
-    }
-
-    /**
-     * Gets the string output from the passed {@link HttpURLConnection},
-     * or logs the error message.
-     */
-    private static String connectionToString(HttpURLConnection con) throws IOException {
-        checkResponseCode(con);
-        return inputStreamToString(con.getInputStream(), con::disconnect);
-    }
-
-    /**
-     * Throws an exception if there is an error stream to avoid further issues
-     */
-    private static void checkResponseCode(HttpURLConnection con) throws IOException {
-        // Send the request (we dont use this but its required for getErrorStream() to work)
-        con.getResponseCode();
-
-        // Read the error message if there is one if not just read normally
-        InputStream errorStream = con.getErrorStream();
-        if (errorStream != null) {
-            throw new IOException(inputStreamToString(errorStream, null));
-        }
-    }
-
-    /**
-     * Get the string output from the passed {@link InputStream}
-     *
-     * @param stream The input stream to get the string from
-     * @return The body of the returned page
-     * @throws IOException If the request fails
-     */
-    private static String inputStreamToString(InputStream stream, @Nullable Runnable onFinish) throws IOException {
-        StringBuilder content = new StringBuilder();
-        try (BufferedReader in = new BufferedReader(new InputStreamReader(stream))) {
-            String inputLine;
-
-            while ((inputLine = in.readLine()) != null) {
-                content.append(inputLine);
-                content.append("\n");
-            }
-
-            if (onFinish != null) {
-                onFinish.run();
-            }
-        }
-
-        return content.toString();
+        return new String(SharedHttpClient.post(reqURL, "text/plain", postContent), StandardCharsets.UTF_8);
     }
 
     /**
@@ -344,21 +268,11 @@ public class WebUtils {
      * @throws IOException If the request fails
      */
     public static String postForm(String reqURL, Map<String, String> fields) throws IOException {
-        URL url = new URL(reqURL);
-        HttpURLConnection con = (HttpURLConnection) url.openConnection();
-        con.setRequestMethod("POST");
-        con.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
-        con.setRequestProperty("User-Agent", getUserAgent());
-        con.setDoOutput(true);
-
-        try (OutputStream out = con.getOutputStream()) {
-            // Write the form data to the output
-            for (Map.Entry<String, String> field : fields.entrySet()) {
-                out.write((field.getKey() + "=" + URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8) + "&").getBytes(StandardCharsets.UTF_8));
-            }
+        StringBuilder form = new StringBuilder();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            form.append(field.getKey()).append('=').append(URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8)).append('&');
         }
-
-        return connectionToString(con);
+        return new String(SharedHttpClient.post(reqURL, "application/x-www-form-urlencoded", form.toString()), StandardCharsets.UTF_8);
     }
 
     /**
@@ -394,14 +308,7 @@ public class WebUtils {
      */
     public static Stream<String> getLineStream(String reqURL) {
         try {
-            URL url = new URL(reqURL);
-            HttpURLConnection con = (HttpURLConnection) url.openConnection();
-            con.setRequestMethod("GET");
-            con.setRequestProperty("User-Agent", getUserAgent()); // Otherwise Java 8 fails on checking updates
-            con.setConnectTimeout(10000);
-            con.setReadTimeout(10000);
-
-            return connectionToString(con).lines();
+            return getBody(reqURL).lines();
         } catch (Exception e) {
             GeyserImpl.getInstance().getLogger().error("Error while trying to get a stream from " + reqURL, e);
             return Stream.empty();
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.item.custom;
+
+import com.google.common.collect.MultimapBuilder;
+import com.google.common.collect.SortedSetMultimap;
+import net.kyori.adventure.key.Key;
+import org.cloudburstmc.protocol.bedrock.data.definitions.ItemDefinition;
+import org.geysermc.geyser.api.item.custom.v2.CustomItemDefinition;
+import org.geysermc.geyser.api.predicate.MinecraftPredicate;
+import org.geysermc.geyser.api.predicate.PredicateStrategy;
+import org.geysermc.geyser.api.predicate.context.item.ChargedProjectile;
+import org.geysermc.geyser.api.predicate.context.item.ItemPredicateContext;
+import org.geysermc.geyser.api.predicate.item.ItemConditionPredicate;
+import org.geysermc.geyser.item.GeyserCustomMappingData;
+import org.geysermc.geyser.item.Items;
+import org.geysermc.geyser.item.custom.impl.predicates.GeyserChargeTypePredicate;
+import org.geysermc.geyser.item.custom.impl.predicates.GeyserCustomModelDataPredicate;
+import org.geysermc.geyser.item.custom.impl.predicates.GeyserRangeDispatchPredicate;
+import org.geysermc.geyser.item.custom.impl.predicates.GeyserRangeDispatchPredicate.GeyserRangeDispatchProperty;
+import org.geysermc.geyser.scoreboard.network.util.GeyserMockContext;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.mcprotocollib.protocol.data.game.item.ItemStack;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.CustomModelData;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentTypes;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.Unit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that {@link CustomItemPredicateTable} picks the same custom item as testing every predicate against a full
+ * {@link ItemPredicateContext}, which is how custom items were looked up before.
+ */
+public class CustomItemPredicateTableTest {
+    private static final Key MODEL = Key.key("geyser", "test");
+
+    /**
+     * Every kind of predicate the table compiles, plus one it has to fall back on a context for.
+     */
+    private static final List<MinecraftPredicate<? super ItemPredicateContext>> PREDICATES = List.of(
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.DAMAGE, 0),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.DAMAGE, 5),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.DAMAGE, 5, 0, false, true),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.DAMAGE, 0.5, true),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.DAMAGE, 0.0, 0, true, true),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.COUNT, 16),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.COUNT, 1.0, true),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.COUNT, 0.5, 0, true, true),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.CUSTOM_MODEL_DATA, 1.5),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.CUSTOM_MODEL_DATA, 2, 1),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.CUSTOM_MODEL_DATA, 1, 0, false, true),
+        new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.CUSTOM_MODEL_DATA, 0.0, true),
+        new GeyserCustomModelDataPredicate.GeyserFlagPredicate(0, false),
+        new GeyserCustomModelDataPredicate.GeyserFlagPredicate(2, true),
+        new GeyserCustomModelDataPredicate.GeyserStringPredicate("a", 0, false),
+        new GeyserCustomModelDataPredicate.GeyserStringPredicate("b", 1, true),
+        new GeyserCustomModelDataPredicate.GeyserStringPredicate(null, 1, false),
+        new GeyserChargeTypePredicate(ChargedProjectile.ChargeType.ARROW, false),
+        new GeyserChargeTypePredicate(ChargedProjectile.ChargeType.ROCKET, true),
+        ItemConditionPredicate.UNBREAKABLE,
+        context -> context.damage() % 3 == 0
+    );
+
+    private static int fireworkRocketId;
+    private final GeyserSession session = mock(GeyserSession.class);
+
+    @BeforeAll
+    public static void setup() {
+        // The item registries need a Geyser instance to initialize
+        GeyserMockContext.mockContext(() -> fireworkRocketId = Items.FIREWORK_ROCKET.javaId());
+    }
+
+    @Test
+    public void testRandomMatchesLinear() {
+        Random random = new Random(5552);
+        for (int table = 0; table < 200; table++) {
+            SortedSetMultimap<Key, GeyserCustomMappingData> definitions = definitions();
+            int customItems = 1 + random.nextInt(8);
+            for (int i = 0; i < customItems; i++) {
+                List<MinecraftPredicate<? super ItemPredicateContext>> predicates = new ArrayList<>();
+                int predicateCount = random.nextInt(5);
+                for (int j = 0; j < predicateCount; j++) {
+                    // Leave the fallback predicate out of most tables, so the memo is tested too
+                    int bound = random.nextInt(4) == 0 ? PREDICATES.size() : PREDICATES.size() - 1;
+                    predicates.add(PREDICATES.get(random.nextInt(bound)));
+                }
+                add(definitions, predicates, random.nextBoolean() ? PredicateStrategy.AND : PredicateStrategy.OR);
+            }
+
+            CustomItemPredicateTable compiled = CustomItemPredicateTable.compile(definitions).get(MODEL);
+            for (int item = 0; item < 50; item++) {
+                int count = 1 + random.nextInt(64);
+                DataComponents components = randomComponents(random);
+                // Twice, so the second lookup comes from the memo
+                for (int lookup = 0; lookup < 2; lookup++) {
+                    assertSame(linear(definitions, count, components), compiled.lookup(session, count, components),
+                        "Table " + table + " differs for count " + count + " and " + components);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEdgeCases() {
+        // Normalized ranges never match if there is nothing to normalize against
+        assertLookup(List.of(new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.DAMAGE, 0.0, true)), PredicateStrategy.AND,
+            components(5, 0, false), components(5, 10, false));
+        assertLookup(List.of(new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.CUSTOM_MODEL_DATA, 0.0, true)), PredicateStrategy.AND,
+            customModelData(List.of(1.0F), List.of(), List.of()));
+
+        // Values that only matter once normalized must still be part of the memo key
+        MinecraftPredicate<? super ItemPredicateContext> halfDamaged = new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.DAMAGE, 0.5, true);
+        assertLookup(List.of(halfDamaged), PredicateStrategy.AND,
+            components(5, 10, false), components(5, 20, false), components(5, 0, false), components(10, 20, false));
+        assertLookup(List.of(new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.COUNT, 1.0, true)), PredicateStrategy.AND,
+            components(0, 0, false), maxStackSize(16), maxStackSize(1));
+
+        // Custom model data indices past the end of a list
+        assertLookup(List.of(new GeyserCustomModelDataPredicate.GeyserFlagPredicate(1, false)), PredicateStrategy.AND,
+            customModelData(List.of(), List.of(false, true), List.of()), customModelData(List.of(), List.of(false), List.of()),
+            customModelData(List.of(), List.of(true, false), List.of()));
+        assertLookup(List.of(new GeyserCustomModelDataPredicate.GeyserStringPredicate(null, 2, false)), PredicateStrategy.AND,
+            customModelData(List.of(), List.of(), List.of("a")), customModelData(List.of(), List.of(), List.of("a", "b", "c")));
+
+        // OR and AND of the same predicates
+        List<MinecraftPredicate<? super ItemPredicateContext>> unbreakableRocket = List.of(ItemConditionPredicate.UNBREAKABLE,
+            new GeyserChargeTypePredicate(ChargedProjectile.ChargeType.ROCKET, false));
+        DataComponents[] states = {
+            components(0, 0, false), components(0, 0, true), chargedProjectiles(true, false),
+            chargedProjectiles(false, true), chargedProjectiles(true, true)
+        };
+        assertLookup(unbreakableRocket, PredicateStrategy.AND, states);
+        assertLookup(unbreakableRocket, PredicateStrategy.OR, states);
+
+        // Items without predicates always match
+        assertLookup(List.of(), PredicateStrategy.AND, components(0, 0, false));
+        assertLookup(List.of(), PredicateStrategy.OR, components(0, 0, false));
+    }
+
+    @Test
+    public void testFirstMatchWins() {
+        SortedSetMultimap<Key, GeyserCustomMappingData> definitions = definitions();
+        ItemDefinition damaged = add(definitions, List.of(new GeyserRangeDispatchPredicate(GeyserRangeDispatchProperty.DAMAGE, 5)), PredicateStrategy.AND);
+        ItemDefinition any = add(definitions, List.of(), PredicateStrategy.AND);
+        CustomItemPredicateTable table = CustomItemPredicateTable.compile(definitions).get(MODEL);
+
+        assertSame(damaged, table.lookup(session, 1, components(7, 0, false)));
+        assertSame(any, table.lookup(session, 1, components(2, 0, false)));
+        assertSame(damaged, table.lookup(session, 1, components(5, 0, false)));
+    }
+
+    /**
+     * Looks up the states one after another through the same table, comparing each with the linear lookup.
+     */
+    private void assertLookup(List<MinecraftPredicate<? super ItemPredicateContext>> predicates, PredicateStrategy strategy, DataComponents... states) {
+        SortedSetMultimap<Key, GeyserCustomMappingData> definitions = definitions();
+        add(definitions, predicates, strategy);
+        CustomItemPredicateTable table = CustomItemPredicateTable.compile(definitions).get(MODEL);
+        for (DataComponents components : states) {
+            for (int count : new int[] {1, 8, 16}) {
+                assertSame(linear(definitions, count, components), table.lookup(session, count, components),
+                    predicates + " (" + strategy + ") differs for count " + count + " and " + components);
+            }
+        }
+    }
+
+    private static SortedSetMultimap<Key, GeyserCustomMappingData> definitions() {
+        return MultimapBuilder.hashKeys().treeSetValues(Comparator.comparingInt(GeyserCustomMappingData::integerId)).build();
+    }
+
+    private static ItemDefinition add(SortedSetMultimap<Key, GeyserCustomMappingData> definitions,
+                                      List<MinecraftPredicate<? super ItemPredicateContext>> predicates, PredicateStrategy strategy) {
+        CustomItemDefinition definition = mock(CustomItemDefinition.class);
+        when(definition.predicates()).thenReturn(predicates);
+        when(definition.predicateStrategy()).thenReturn(strategy);
+        ItemDefinition itemDefinition = mock(ItemDefinition.class);
+        definitions.put(MODEL, new GeyserCustomMappingData(definition, itemDefinition, definitions.size()));
+        return itemDefinition;
+    }
+
+    /**
+     * How custom items were looked up before their predicates were compiled; see the custom item benchmark.
+     */
+    private ItemDefinition linear(SortedSetMultimap<Key, GeyserCustomMappingData> definitions, int count, DataComponents components) {
+        ItemPredicateContext context = GeyserItemPredicateContext.create(session, count, components);
+        for (GeyserCustomMappingData customMapping : definitions.get(MODEL)) {
+            boolean needsOnlyOneMatch = customMapping.definition().predicateStrategy() == PredicateStrategy.OR;
+            boolean allMatch = true;
+            for (MinecraftPredicate<? super ItemPredicateContext> predicate : customMapping.definition().predicates()) {
+                if (predicate.test(context)) {
+                    if (needsOnlyOneMatch) {
+                        return customMapping.itemDefinition();
+                    }
+                } else {
+                    allMatch = false;
+                    if (!needsOnlyOneMatch) {
+                        break;
+                    }
+                }
+            }
+            if (allMatch) {
+                return customMapping.itemDefinition();
+            }
+        }
+        return null;
+    }
+
+    private static DataComponents randomComponents(Random random) {
+        DataComponents components = new DataComponents(new HashMap<>());
+        if (random.nextBoolean()) {
+            components.put(DataComponentTypes.DAMAGE, random.nextInt(12));
+        }
+        if (random.nextBoolean()) {
+            components.put(DataComponentTypes.MAX_DAMAGE, random.nextInt(3) * 5);
+        }
+        if (random.nextBoolean()) {
+            components.put(DataComponentTypes.MAX_STACK_SIZE, 1 << random.nextInt(7));
+        }
+        if (random.nextBoolean()) {
+            components.put(DataComponentTypes.UNBREAKABLE, Unit.INSTANCE);
+        }
+        if (random.nextBoolean()) {
+            List<ItemStack> projectiles = new ArrayList<>();
+            for (int i = random.nextInt(3); i > 0; i--) {
+                projectiles.add(new ItemStack(random.nextBoolean() ? fireworkRocketId : fireworkRocketId + 1, 1));
+            }
+            components.put(DataComponentTypes.CHARGED_PROJECTILES, projectiles);
+        }
+        if (random.nextBoolean()) {
+            List<Float> floats = new ArrayList<>();
+            for (int i = random.nextInt(3); i > 0; i--) {
+                floats.add(random.nextInt(5) * 0.5F);
+            }
+            List<Boolean> flags = new ArrayList<>();
+            for (int i = random.nextInt(4); i > 0; i--) {
+                flags.add(random.nextBoolean());
+            }
+            List<String> strings = new ArrayList<>();
+            for (int i = random.nextInt(3); i > 0; i--) {
+                strings.add(random.nextBoolean() ? "a" : "b");
+            }
+            components.put(DataComponentTypes.CUSTOM_MODEL_DATA, new CustomModelData(floats, flags, strings, List.of()));
+        }
+        return components;
+    }
+
+    private static DataComponents components(int damage, int maxDamage, boolean unbreakable) {
+        DataComponents components = new DataComponents(new HashMap<>());
+        components.put(DataComponentTypes.DAMAGE, damage);
+        components.put(DataComponentTypes.MAX_DAMAGE, maxDamage);
+        if (unbreakable) {
+            components.put(DataComponentTypes.UNBREAKABLE, Unit.INSTANCE);
+        }
+        return components;
+    }
+
+    private static DataComponents maxStackSize(int maxStackSize) {
+        DataComponents components = new DataComponents(new HashMap<>());
+        components.put(DataComponentTypes.MAX_STACK_SIZE, maxStackSize);
+        return components;
+    }
+
+    private static DataComponents customModelData(List<Float> floats, List<Boolean> flags, List<String> strings) {
+        DataComponents components = new DataComponents(new HashMap<>());
+        components.put(DataComponentTypes.CUSTOM_MODEL_DATA, new CustomModelData(floats, flags, strings, List.of()));
+        return components;
+    }
+
+    private static DataComponents chargedProjectiles(boolean unbreakable, boolean rocket) {
+        DataComponents components = components(0, 0, unbreakable);
+        components.put(DataComponentTypes.CHARGED_PROJECTILES, List.of(new ItemStack(rocket ? fireworkRocketId : fireworkRocketId + 1, 1)));
+        return components;
+    }
+}
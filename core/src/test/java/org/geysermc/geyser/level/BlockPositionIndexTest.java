@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level;
+
+import org.cloudburstmc.math.vector.Vector3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockPositionIndexTest {
+
+    @Test
+    public void testPutAndRemove() {
+        BlockPositionIndex<String> index = new BlockPositionIndex<>();
+        Vector3i position = Vector3i.from(5, 64, -3);
+
+        assertNull(index.put(position, "a"));
+        assertEquals("a", index.put(position, "b"));
+        assertEquals("b", index.get(position));
+        assertEquals(1, index.size());
+        assertEquals(List.of("b"), List.copyOf(index.inChunk(0, -1)));
+
+        assertFalse(index.remove(position, "a"));
+        assertTrue(index.remove(position, "b"));
+        assertNull(index.get(position));
+        assertTrue(index.isEmpty());
+        assertTrue(index.inChunk(0, -1).isEmpty());
+        assertFalse(index.anyNear(-100, -100, 100, 100));
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        BlockPositionIndex<String> index = new BlockPositionIndex<>();
+        Vector3i position = Vector3i.from(1, 2, 3);
+
+        assertEquals("1", index.computeIfAbsent(position, pos -> "1"));
+        assertEquals("1", index.computeIfAbsent(position, pos -> "2"));
+        assertEquals(List.of("1"), List.copyOf(index.inChunk(0, 0)));
+    }
+
+    @Test
+    public void testChunkEdges() {
+        BlockPositionIndex<String> index = new BlockPositionIndex<>();
+        index.put(Vector3i.from(15, 0, 15), "last of chunk 0");
+        index.put(Vector3i.from(16, 0, 15), "first of chunk 1");
+        index.put(Vector3i.from(-1, 0, 0), "last of chunk -1");
+        index.put(Vector3i.from(0, 0, -16), "first of chunk z -1");
+        index.put(Vector3i.from(0, 0, -17), "last of chunk z -2");
+
+        assertEquals(Set.of("last of chunk 0"), Set.copyOf(index.inChunk(0, 0)));
+        assertEquals(Set.of("first of chunk 1"), Set.copyOf(index.inChunk(1, 0)));
+        assertEquals(Set.of("last of chunk -1"), Set.copyOf(index.inChunk(-1, 0)));
+        assertEquals(Set.of("first of chunk z -1"), Set.copyOf(index.inChunk(0, -1)));
+        assertEquals(Set.of("last of chunk z -2"), Set.copyOf(index.inChunk(0, -2)));
+    }
+
+    @Test
+    public void testSectionEdges() {
+        // Sections of the same chunk column share a chunk
+        BlockPositionIndex<String> index = new BlockPositionIndex<>();
+        index.put(Vector3i.from(8, 15, 8), "top of section 0");
+        index.put(Vector3i.from(8, 16, 8), "bottom of section 1");
+        index.put(Vector3i.from(8, -1, 8), "top of section -1");
+        index.put(Vector3i.from(8, -64, 8), "bottom of the world");
+
+        assertEquals(4, index.inChunk(0, 0).size());
+        index.remove(Vector3i.from(8, 16, 8));
+        assertEquals(Set.of("top of section 0", "top of section -1", "bottom of the world"), Set.copyOf(index.inChunk(0, 0)));
+    }
+
+    @Test
+    public void testAnyNear() {
+        BlockPositionIndex<String> index = new BlockPositionIndex<>();
+        index.put(Vector3i.from(32, 70, 32), "a");
+
+        assertTrue(index.anyNear(32, 32, 32, 32));
+        // The same chunk, even though the block itself isn't in the area
+        assertTrue(index.anyNear(40, 40, 60, 60));
+        // Only touches the chunk's edge
+        assertTrue(index.anyNear(0, 0, 32, 32));
+        assertFalse(index.anyNear(0, 0, 31, 31));
+        assertFalse(index.anyNear(48, 48, 100, 100));
+    }
+
+    @Test
+    public void testRings() {
+        BlockPositionIndex<String> index = new BlockPositionIndex<>();
+        index.put(Vector3i.from(0, 0, 0), "center");
+        index.put(Vector3i.from(16, 0, -16), "corner of ring 1");
+        index.put(Vector3i.from(-16, 0, 0), "side of ring 1");
+        index.put(Vector3i.from(32, 0, 5), "ring 2");
+        index.put(Vector3i.from(-40, 0, -40), "ring 3");
+
+        assertEquals(Set.of("center"), ring(index, 8.5, 8.5, 0));
+        assertEquals(Set.of("corner of ring 1", "side of ring 1"), ring(index, 8.5, 8.5, 1));
+        assertEquals(Set.of("ring 2"), ring(index, 8.5, 8.5, 2));
+        assertEquals(Set.of("ring 3"), ring(index, 8.5, 8.5, 3));
+        assertEquals(Set.of(), ring(index, 8.5, 8.5, 4));
+
+        // Rings are relative to the chunk of the position, including negative positions
+        assertEquals(Set.of("side of ring 1"), ring(index, -0.5, 0.5, 0));
+        assertEquals(Set.of("center"), ring(index, -0.5, 0.5, 1));
+    }
+
+    private static Set<String> ring(BlockPositionIndex<String> index, double x, double z, int ring) {
+        List<String> values = new ArrayList<>();
+        index.forEachInRing(x, z, ring, values::add);
+        Set<String> unique = Set.copyOf(values);
+        assertEquals(values.size(), unique.size(), "A chunk was visited twice");
+        return unique;
+    }
+}
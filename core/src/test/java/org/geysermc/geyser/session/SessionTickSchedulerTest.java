@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SessionTickSchedulerTest {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long now;
+    private final List<Wakeup> wakeUps = new ArrayList<>();
+    private SessionTickScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        // Runs everything on the calling thread, with a clock that only moves when the test says so
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(eventLoop.inEventLoop()).thenReturn(true);
+        when(eventLoop.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            long delay = invocation.getArgument(2, TimeUnit.class).toNanos(invocation.getArgument(1, Long.class));
+            Wakeup wakeUp = new Wakeup(now + delay, invocation.getArgument(0, Runnable.class));
+            wakeUps.add(wakeUp);
+            ScheduledFuture<?> future = mock(ScheduledFuture.class);
+            when(future.cancel(anyBoolean())).thenAnswer(cancel -> wakeUps.remove(wakeUp));
+            return future;
+        });
+        scheduler = new SessionTickScheduler(eventLoop, () -> now);
+    }
+
+    @Test
+    public void testFirstLevel() {
+        List<Long> ticks = new ArrayList<>();
+        scheduler.schedule(session(ticks), 10 * MILLIS);
+
+        runUntil(45);
+        assertEquals(List.of(10L, 20L, 30L, 40L), ticks);
+    }
+
+    @Test
+    public void testSecondLevel() {
+        // The first tick is in the next 64 ms block, so it has to be moved down into the first level
+        List<Long> ticks = new ArrayList<>();
+        scheduler.schedule(session(ticks), 100 * MILLIS);
+
+        runUntil(99);
+        assertEquals(List.of(), ticks);
+        runUntil(350);
+        assertEquals(List.of(100L, 200L, 300L), ticks);
+    }
+
+    @Test
+    public void testBeyondWheel() {
+        // Further away than both levels cover, so it is moved down more than once before it is due
+        List<Long> ticks = new ArrayList<>();
+        scheduler.schedule(session(ticks), 10_000 * MILLIS);
+
+        runUntil(9_999);
+        assertEquals(List.of(), ticks);
+        runUntil(10_000);
+        assertEquals(List.of(10_000L), ticks);
+    }
+
+    @Test
+    public void testMixedIntervals() {
+        List<Long> fast = new ArrayList<>();
+        List<Long> slow = new ArrayList<>();
+        scheduler.schedule(session(fast), 50 * MILLIS);
+        scheduler.schedule(session(slow), 150 * MILLIS);
+
+        runUntil(300);
+        assertEquals(List.of(50L, 100L, 150L, 200L, 250L, 300L), fast);
+        assertEquals(List.of(150L, 300L), slow);
+        assertEquals(2, scheduler.stats().sessions());
+        assertEquals(8, scheduler.stats().ticks());
+    }
+
+    @Test
+    public void testCancel() {
+        List<Long> ticks = new ArrayList<>();
+        SessionTickScheduler.Task task = scheduler.schedule(session(ticks), 50 * MILLIS);
+
+        runUntil(120);
+        task.cancel();
+        runUntil(500);
+        assertEquals(List.of(50L, 100L), ticks);
+        assertEquals(0, scheduler.stats().sessions());
+        assertTrue(wakeUps.isEmpty());
+    }
+
+    @Test
+    public void testCancelWhileDue() {
+        // Both sessions are due in the same slot; whichever is ticked first cancels the other
+        List<Long> ticks = new ArrayList<>();
+        SessionTickScheduler.Task[] tasks = new SessionTickScheduler.Task[2];
+        for (int i = 0; i < tasks.length; i++) {
+            int other = 1 - i;
+            GeyserSession session = mock(GeyserSession.class);
+            doAnswer(invocation -> {
+                ticks.add(now / MILLIS);
+                tasks[other].cancel();
+                return null;
+            }).when(session).tick();
+            tasks[i] = scheduler.schedule(session, 50 * MILLIS);
+        }
+
+        runUntil(200);
+        assertEquals(List.of(50L, 100L, 150L, 200L), ticks);
+        assertEquals(1, scheduler.stats().sessions());
+    }
+
+    @Test
+    public void testSetInterval() {
+        List<Long> ticks = new ArrayList<>();
+        SessionTickScheduler.Task task = scheduler.schedule(session(ticks), 50 * MILLIS);
+
+        runUntil(10);
+        task.setInterval(20 * MILLIS);
+        runUntil(75);
+        assertEquals(List.of(30L, 50L, 70L), ticks);
+
+        task.setInterval(200 * MILLIS);
+        runUntil(274);
+        assertEquals(List.of(30L, 50L, 70L), ticks);
+        runUntil(475);
+        assertEquals(List.of(30L, 50L, 70L, 275L, 475L), ticks);
+    }
+
+    @Test
+    public void testStalledLoop() {
+        List<Long> ticks = new ArrayList<>();
+        scheduler.schedule(session(ticks), 50 * MILLIS);
+
+        runUntil(50);
+        // The event loop is blocked for almost a second, so the ticks due from 100 ms to 1000 ms are missed
+        now = 1_040 * MILLIS;
+        runUntil(1_200);
+        // The session is ticked once right away, and then keeps to its schedule
+        assertEquals(List.of(50L, 1_040L, 1_050L, 1_100L, 1_150L, 1_200L), ticks);
+
+        SessionTickScheduler.Stats stats = scheduler.stats();
+        assertEquals(18, stats.skippedTicks());
+        assertEquals(1, stats.overruns());
+        assertEquals(940, stats.maxLatenessMillis(), 0.001);
+    }
+
+    private GeyserSession session(List<Long> ticks) {
+        GeyserSession session = mock(GeyserSession.class);
+        doAnswer(invocation -> ticks.add(now / MILLIS)).when(session).tick();
+        return session;
+    }
+
+    /**
+     * Runs every wake-up that is due until the given time, in order, and then moves the clock there.
+     */
+    private void runUntil(long millis) {
+        long until = millis * MILLIS;
+        while (true) {
+            Wakeup next = null;
+            for (Wakeup wakeUp : wakeUps) {
+                if (wakeUp.time <= until && (next == null || wakeUp.time < next.time)) {
+                    next = wakeUp;
+                }
+            }
+            if (next == null) {
+                break;
+            }
+            wakeUps.remove(next);
+            now = Math.max(now, next.time);
+            next.runnable.run();
+        }
+        now = Math.max(now, until);
+    }
+
+    private record Wakeup(long time, Runnable runnable) {
+    }
+}
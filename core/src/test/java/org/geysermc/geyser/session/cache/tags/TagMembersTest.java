@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache.tags;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TagMembersTest {
+
+    @Test
+    public void testContains() {
+        TagMembers members = new TagMembers(new int[] {5, 0, 63, 64, 200});
+        for (int id : new int[] {0, 5, 63, 64, 200}) {
+            assertTrue(members.contains(id), "Missing " + id);
+        }
+        for (int id : new int[] {1, 62, 65, 199}) {
+            assertFalse(members.contains(id), "Unexpected " + id);
+        }
+        assertArrayEquals(new int[] {5, 0, 63, 64, 200}, members.values());
+    }
+
+    @Test
+    public void testEmpty() {
+        assertFalse(TagMembers.EMPTY.contains(0));
+        assertFalse(new TagMembers(new int[0]).contains(0));
+        assertEquals(TagMembers.EMPTY, new TagMembers(new int[0]));
+    }
+
+    @Test
+    public void testOutOfRange() {
+        TagMembers members = new TagMembers(new int[] {1, 2, 3});
+        assertFalse(members.contains(64));
+        assertFalse(members.contains(4096));
+        assertFalse(members.contains(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testNegative() {
+        TagMembers members = new TagMembers(new int[] {-1, 0, 63});
+        assertFalse(members.contains(-1));
+        assertFalse(members.contains(-64));
+        assertFalse(members.contains(Integer.MIN_VALUE));
+        assertTrue(members.contains(0));
+        assertTrue(members.contains(63));
+    }
+
+    @Test
+    public void testLargeIds() {
+        // Too sparse for a bitset
+        TagMembers members = new TagMembers(new int[] {Integer.MAX_VALUE, 7, 1_000_000, -5});
+        assertTrue(members.contains(Integer.MAX_VALUE));
+        assertTrue(members.contains(7));
+        assertTrue(members.contains(1_000_000));
+        assertFalse(members.contains(-5));
+        assertFalse(members.contains(8));
+        assertFalse(members.contains(999_999));
+        assertArrayEquals(new int[] {Integer.MAX_VALUE, 7, 1_000_000, -5}, members.values());
+    }
+
+    @Test
+    public void testEquality() {
+        assertEquals(new TagMembers(new int[] {1, 2}), new TagMembers(new int[] {1, 2}));
+        assertEquals(new TagMembers(new int[] {1, 2}).hashCode(), new TagMembers(new int[] {1, 2}).hashCode());
+        assertNotEquals(new TagMembers(new int[] {1, 2}), new TagMembers(new int[] {2, 1}));
+    }
+}
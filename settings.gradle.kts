@@ -18,6 +18,7 @@ rootProject.name = "geyser-parent"
 
 include(":ap")
 include(":api")
+include(":benchmark")
 include(":bungeecord")
 include(":fabric")
 include(":gametest")